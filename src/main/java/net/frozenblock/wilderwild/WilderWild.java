@@ -20,8 +20,10 @@ package net.frozenblock.wilderwild;
 
 import java.util.ArrayList;
 import net.fabricmc.fabric.api.command.v2.CommandRegistrationCallback;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerEntityEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerWorldEvents;
 import net.fabricmc.loader.api.ModContainer;
 import net.frozenblock.lib.FrozenBools;
 import net.frozenblock.lib.config.api.instance.ConfigModification;
@@ -29,14 +31,18 @@ import net.frozenblock.lib.config.api.registry.ConfigRegistry;
 import net.frozenblock.lib.entrypoint.api.FrozenModInitializer;
 import net.frozenblock.lib.mobcategory.api.entrypoint.FrozenMobCategoryEntrypoint;
 import net.frozenblock.lib.mobcategory.impl.FrozenMobCategory;
+import net.frozenblock.wilderwild.block.entity.impl.SculkSensorAnimationSync;
+import net.frozenblock.wilderwild.block.impl.LeafLitterScheduler;
+import net.frozenblock.wilderwild.block.impl.MesogleaColumnScheduler;
+import net.frozenblock.wilderwild.command.MobCountCommand;
 import net.frozenblock.wilderwild.command.SpreadSculkCommand;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.datafix.minecraft.WWMinecraftDataFixer;
 import net.frozenblock.wilderwild.datafix.wilderwild.WWDataFixer;
-import net.frozenblock.wilderwild.entity.Crab;
-import net.frozenblock.wilderwild.entity.Jellyfish;
 import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.entity.ai.TermiteScheduler;
+import net.frozenblock.wilderwild.entity.impl.WWMobCounter;
 import net.frozenblock.wilderwild.mod_compat.WWModIntegrations;
 import net.frozenblock.wilderwild.networking.WWNetworking;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
@@ -60,6 +66,7 @@ import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WWVillagers;
 import net.frozenblock.wilderwild.registry.WWBiomes;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
+import net.frozenblock.wilderwild.wind.WWWindCache;
 import net.frozenblock.wilderwild.worldgen.modification.WWWorldGen;
 import org.jetbrains.annotations.NotNull;
 
@@ -109,15 +116,32 @@ public final class WilderWild extends FrozenModInitializer implements FrozenMobC
 		WWVillagers.register();
 
 		ServerLifecycleEvents.SERVER_STOPPED.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
-			Crab.clearLevelToCrabCount();
+			WWMobCounter.clearCounters();
+			TermiteScheduler.clearSchedulers();
+			MesogleaColumnScheduler.clearSchedulers();
+			LeafLitterScheduler.clearSchedulers();
+			SculkSensorAnimationSync.clearSyncs();
+			WWWindCache.clearCaches();
 		});
-		ServerTickEvents.START_SERVER_TICK.register(listener -> {
-			Jellyfish.clearLevelToNonPearlescentCount();
-			Crab.clearLevelToCrabCount();
+		ServerWorldEvents.UNLOAD.register((server, level) -> {
+			WWMobCounter.removeLevel(level);
+			TermiteScheduler.removeLevel(level);
+			MesogleaColumnScheduler.removeLevel(level);
+			LeafLitterScheduler.removeLevel(level);
+			SculkSensorAnimationSync.removeLevel(level);
+			WWWindCache.removeLevel(level);
 		});
+		ServerTickEvents.END_WORLD_TICK.register(TermiteScheduler::tickLevel);
+		ServerTickEvents.END_WORLD_TICK.register(MesogleaColumnScheduler::tickLevel);
+		ServerTickEvents.END_WORLD_TICK.register(LeafLitterScheduler::tickLevel);
+		ServerTickEvents.END_WORLD_TICK.register(SculkSensorAnimationSync::tickLevel);
+		ServerEntityEvents.ENTITY_LOAD.register(WWMobCounter::onEntityLoad);
+		ServerEntityEvents.ENTITY_UNLOAD.register(WWMobCounter::onEntityUnload);
 
-		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> SpreadSculkCommand.register(dispatcher));
+		CommandRegistrationCallback.EVENT.register((dispatcher, registryAccess, environment) -> {
+			SpreadSculkCommand.register(dispatcher);
+			MobCountCommand.register(dispatcher);
+		});
 
 		WWModIntegrations.init();
 
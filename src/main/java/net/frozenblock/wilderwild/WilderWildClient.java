@@ -21,6 +21,7 @@ package net.frozenblock.wilderwild;
 import net.fabricmc.api.ClientModInitializer;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.resource.ResourceManagerHelper;
 import net.fabricmc.fabric.api.resource.SimpleSynchronousResourceReloadListener;
@@ -31,7 +32,9 @@ import net.frozenblock.lib.menu.api.SplashTextAPI;
 import net.frozenblock.wilderwild.client.WWBlockRenderLayers;
 import net.frozenblock.wilderwild.client.WWFluidRendering;
 import net.frozenblock.wilderwild.client.WWItemProperties;
+import net.frozenblock.wilderwild.client.WWLeafTintCache;
 import net.frozenblock.wilderwild.client.WWModelLayers;
+import net.frozenblock.wilderwild.client.WWParticleBudget;
 import net.frozenblock.wilderwild.client.WWParticleEngine;
 import net.frozenblock.wilderwild.client.WWTints;
 import net.frozenblock.wilderwild.client.renderer.debug.OstrichDebugRenderer;
@@ -60,6 +63,11 @@ public final class WilderWildClient implements ClientModInitializer {
 
 		WWClientNetworking.registerPacketReceivers();
 
+		ClientTickEvents.START_CLIENT_TICK.register(WWParticleBudget::tick);
+		ClientTickEvents.START_CLIENT_TICK.register(WWLeafTintCache::tick);
+		ClientChunkEvents.CHUNK_LOAD.register(WWLeafTintCache::onChunkChanged);
+		ClientChunkEvents.CHUNK_UNLOAD.register(WWLeafTintCache::onChunkChanged);
+
 		ResourceManagerHelper.get(PackType.CLIENT_RESOURCES).registerReloadListener(new SimpleSynchronousResourceReloadListener() {
 			@Override
 			public ResourceLocation getFabricId() {
@@ -186,7 +186,11 @@ public class GeyserBlock extends BaseEntityBlock {
 	public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		GeyserType geyserType = getGeyserTypeForPos(level, state, pos);
 		if (geyserType != state.getValue(GEYSER_TYPE)) {
-			level.setBlock(pos, state.setValue(GEYSER_TYPE, geyserType), UPDATE_ALL);
+			state = state.setValue(GEYSER_TYPE, geyserType);
+			level.setBlock(pos, state, UPDATE_ALL);
+		}
+		if (level.getBlockEntity(pos) instanceof GeyserBlockEntity geyserBlockEntity) {
+			geyserBlockEntity.onScheduledTick(level, pos, state, random);
 		}
 	}
 
@@ -217,6 +221,8 @@ public class GeyserBlock extends BaseEntityBlock {
 
 	@Nullable
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
+		// Dormant and active geysers are woken by scheduled ticks instead.
+		if (state.getValue(GEYSER_STAGE) != GeyserStage.ERUPTING) return null;
 		return !level.isClientSide ?
 			createTickerHelper(type, WWBlockEntityTypes.GEYSER, (worldx, pos, statex, blockEntity) -> blockEntity.tickServer(worldx, pos, statex, worldx.random))
 			: createTickerHelper(type, WWBlockEntityTypes.GEYSER, (worldx, pos, statex, blockEntity) -> blockEntity.tickClient(worldx, pos, statex, worldx.random));
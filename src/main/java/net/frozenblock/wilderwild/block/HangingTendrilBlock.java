@@ -104,6 +104,15 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 		return SculkSensorBlock.getPhase(state) == SculkSensorPhase.ACTIVE || state.getValue(WRINGING_OUT);
 	}
 
+	/**
+	 * Tendrils only need their block entity ticked while twitching, wringing out or active.
+	 * <p>
+	 * Changing any of these properties makes the chunk query {@link #getTicker} again, so idle tendrils are removed from the ticking list.
+	 */
+	public static boolean hasTimedWork(@NotNull BlockState state) {
+		return state.getValue(TWITCHING) || state.getValue(WRINGING_OUT) || SculkSensorBlock.getPhase(state) != SculkSensorPhase.INACTIVE;
+	}
+
 	public static boolean canActivate(@NotNull BlockState state) {
 		return SculkSensorBlock.getPhase(state) == SculkSensorPhase.INACTIVE;
 	}
@@ -163,6 +172,8 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 	public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		if (!state.canSurvive(level, pos)) {
 			level.destroyBlock(pos, true);
+		} else if (level.getBlockEntity(pos) instanceof HangingTendrilBlockEntity hangingTendrilBlockEntity) {
+			hangingTendrilBlockEntity.tickVibrationSystem(level, pos);
 		}
 	}
 
@@ -201,10 +212,9 @@ public class HangingTendrilBlock extends BaseEntityBlock implements SimpleWaterl
 	@Override
 	@Nullable
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
-		return !level.isClientSide ? createTickerHelper(type, WWBlockEntityTypes.HANGING_TENDRIL, (worldx, pos, statex, blockEntity) ->
+		return !level.isClientSide && hasTimedWork(state) ? createTickerHelper(type, WWBlockEntityTypes.HANGING_TENDRIL, (worldx, pos, statex, blockEntity) ->
 			blockEntity.serverTick(worldx, pos, statex)
-		) : createTickerHelper(type, WWBlockEntityTypes.HANGING_TENDRIL, (worldx, pos, statex, blockEntity) ->
-			blockEntity.clientTick(statex));
+		) : null;
 	}
 
 	@Override
@@ -25,6 +25,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import net.frozenblock.lib.block.api.shape.FrozenShapes;
+import net.frozenblock.wilderwild.block.impl.MesogleaColumnScheduler;
 import net.frozenblock.wilderwild.block.state.properties.BubbleDirection;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
 import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
@@ -90,6 +91,9 @@ public class MesogleaBlock extends HalfTransparentBlock implements SimpleWaterlo
 		Codec.BOOL.fieldOf("pearlescent").forGetter((mesogleaBlock) -> mesogleaBlock.pearlescent),
 		propertiesCodec()
 	).apply(instance, MesogleaBlock::new));
+	private static final Direction[] COLLISION_DIRECTIONS = new Direction[]{Direction.DOWN, Direction.NORTH, Direction.SOUTH, Direction.WEST, Direction.EAST};
+	private static final VoxelShape[] COLLISION_SHAPES = makeCollisionShapes(COLLISION_FROM_SIDE);
+	private static final VoxelShape[] JELLYFISH_COLLISION_SHAPES = makeCollisionShapes(JELLYFISH_COLLISION_FROM_SIDE);
 	public final boolean pearlescent;
 
 	public MesogleaBlock(boolean pearlescent, @NotNull Properties properties) {
@@ -131,24 +135,64 @@ public class MesogleaBlock extends HalfTransparentBlock implements SimpleWaterlo
 
 	public static void updateColumn(LevelAccessor level, BlockPos pos, BlockState mesoglea, BlockState state) {
 		if (canExistIn(mesoglea)) {
-			level.setBlock(pos, getColumnState(mesoglea, state), UPDATE_CLIENTS);
-			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable().move(Direction.UP);
-			BlockState mutableState;
-			while (true) {
-				mutableState = level.getBlockState(mutableBlockPos);
-				if (canExistIn(mutableState)) {
-					if (!level.setBlock(mutableBlockPos, getColumnState(mutableState, state), UPDATE_CLIENTS)) {
-						return;
-					}
-					mutableBlockPos.move(Direction.UP);
-				} else {
-					BubbleColumnBlock.updateColumn(level, mutableBlockPos, state);
-					return;
+			updateColumn(level, pos, mesoglea, state, true);
+		}
+	}
+
+	/**
+	 * Updates the column containing a Mesoglea block queued by {@link MesogleaColumnScheduler}, starting from the bottom of the column.
+	 *
+	 * @param updatedTop the highest y level of this column that has already been updated this tick.
+	 * @return the highest y level of this column that is now up to date.
+	 */
+	public static int updateQueuedColumn(@NotNull ServerLevel level, @NotNull BlockPos.MutableBlockPos pos, int updatedTop) {
+		BlockState state = level.getBlockState(pos);
+		if (!(state.getBlock() instanceof MesogleaBlock)) return updatedTop;
+		if (!canExistIn(state)) {
+			BubbleColumnBlock.updateColumn(level, pos.above(), state);
+			return updatedTop;
+		}
+
+		BlockState belowState;
+		while (true) {
+			pos.move(Direction.DOWN);
+			if (pos.getY() <= updatedTop) return updatedTop;
+			belowState = level.getBlockState(pos);
+			if (!canExistIn(belowState)) break;
+			state = belowState;
+		}
+		return updateColumn(level, pos.move(Direction.UP).immutable(), state, belowState, false);
+	}
+
+	/**
+	 * Sets the bubble direction of each Mesoglea block in a column, skipping blocks that already have the correct direction.
+	 *
+	 * @param stopIfUnchanged whether to stop at the first block above {@code pos} that already has the correct direction.
+	 * @return the y level of the highest Mesoglea block that was checked.
+	 */
+	private static int updateColumn(LevelAccessor level, BlockPos pos, BlockState mesoglea, BlockState state, boolean stopIfUnchanged) {
+		setColumnState(level, pos, mesoglea, state);
+		BlockPos.MutableBlockPos mutableBlockPos = pos.mutable().move(Direction.UP);
+		BlockState mutableState;
+		while (true) {
+			mutableState = level.getBlockState(mutableBlockPos);
+			if (canExistIn(mutableState)) {
+				if (!setColumnState(level, mutableBlockPos, mutableState, state) && stopIfUnchanged) {
+					return mutableBlockPos.getY();
 				}
+				mutableBlockPos.move(Direction.UP);
+			} else {
+				BubbleColumnBlock.updateColumn(level, mutableBlockPos, state);
+				return mutableBlockPos.getY() - 1;
 			}
 		}
 	}
 
+	private static boolean setColumnState(LevelAccessor level, BlockPos pos, BlockState mesoglea, BlockState state) {
+		BlockState columnState = getColumnState(mesoglea, state);
+		return columnState != mesoglea && level.setBlock(pos, columnState, UPDATE_CLIENTS);
+	}
+
 	@NotNull
 	private static BlockState getColumnState(@NotNull BlockState mesogleaState, @NotNull BlockState blockState) {
 		if (WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS && mesogleaState.getValue(WATERLOGGED)) {
@@ -234,34 +278,56 @@ public class MesogleaBlock extends HalfTransparentBlock implements SimpleWaterlo
 	@NotNull
 	public VoxelShape getCollisionShape(@NotNull BlockState blockState, @NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos, @NotNull CollisionContext collisionContext) {
 		if (blockState.getValue(WATERLOGGED)) {
-			VoxelShape shape = Shapes.empty();
 			if (collisionContext instanceof EntityCollisionContext entityCollisionContext) {
 				if (entityCollisionContext.getEntity() != null) {
 					Entity entity = entityCollisionContext.getEntity();
 					if (entity != null && entity.getType().is(WWEntityTags.STAYS_IN_MESOGLEA) && !entity.isPassenger() && !entity.isDescending()) {
 						if (entity instanceof Mob mob && mob.isLeashed()) {
-							return shape;
+							return Shapes.empty();
 						}
 						BlockState insideState = entity.getBlockStateOn();
 						if (entity.isInWater() || (insideState.getBlock() instanceof MesogleaBlock && insideState.getValue(BlockStateProperties.WATERLOGGED))) {
-							for (Direction direction : Direction.values()) {
-								if (direction != Direction.UP && !blockGetter.getFluidState(blockPos.relative(direction)).is(FluidTags.WATER)) {
-									shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(direction, JELLYFISH_COLLISION_FROM_SIDE));
-								}
-							}
+							return JELLYFISH_COLLISION_SHAPES[getNonWaterSides(blockGetter, blockPos)];
 						}
 					}
-					return shape;
+					return Shapes.empty();
 				}
 			}
-			for (Direction direction : Direction.values()) {
-				if (direction != Direction.UP && !blockGetter.getFluidState(blockPos.relative(direction)).is(FluidTags.WATER)) {
-					shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(direction, COLLISION_FROM_SIDE));
+			return COLLISION_SHAPES[getNonWaterSides(blockGetter, blockPos)];
+		}
+		return super.getCollisionShape(blockState, blockGetter, blockPos, collisionContext);
+	}
+
+	/**
+	 * Builds the collision shape for every combination of sides, indexed by the bitmask returned from {@link #getNonWaterSides}.
+	 */
+	@NotNull
+	private static VoxelShape[] makeCollisionShapes(float fromSide) {
+		VoxelShape[] shapes = new VoxelShape[1 << COLLISION_DIRECTIONS.length];
+		for (int mask = 0; mask < shapes.length; mask++) {
+			VoxelShape shape = Shapes.empty();
+			for (int i = 0; i < COLLISION_DIRECTIONS.length; i++) {
+				if ((mask & (1 << i)) != 0) {
+					shape = Shapes.or(shape, FrozenShapes.makePlaneFromDirection(COLLISION_DIRECTIONS[i], fromSide));
 				}
 			}
-			return shape;
+			shapes[mask] = shape;
 		}
-		return super.getCollisionShape(blockState, blockGetter, blockPos, collisionContext);
+		return shapes;
+	}
+
+	/**
+	 * @return a bitmask of the sides, excluding the top, that do not border water.
+	 */
+	private static int getNonWaterSides(@NotNull BlockGetter blockGetter, @NotNull BlockPos blockPos) {
+		BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+		int mask = 0;
+		for (int i = 0; i < COLLISION_DIRECTIONS.length; i++) {
+			if (!blockGetter.getFluidState(mutableBlockPos.setWithOffset(blockPos, COLLISION_DIRECTIONS[i])).is(FluidTags.WATER)) {
+				mask |= 1 << i;
+			}
+		}
+		return mask;
 	}
 
 	@Override
@@ -377,8 +443,7 @@ public class MesogleaBlock extends HalfTransparentBlock implements SimpleWaterlo
 	@Override
 	public void tick(@NotNull BlockState state, @NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull RandomSource random) {
 		if (WWBlockConfig.MESOGLEA_BUBBLE_COLUMNS) {
-			updateColumn(level, pos, state, level.getBlockState(pos.below()));
-			BubbleColumnBlock.updateColumn(level, pos.above(), state);
+			MesogleaColumnScheduler.get(level).queue(pos);
 		}
 	}
 
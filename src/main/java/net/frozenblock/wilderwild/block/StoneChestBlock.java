@@ -258,7 +258,7 @@ public class StoneChestBlock extends ChestBlock {
 			if (otherChest != null) {
 				((ChestBlockEntityInterface) stoneChest).wilderWild$syncBubble(stoneChest, otherChest);
 			}
-			stoneChest.syncLidValuesAndUpdate(otherChest);
+			stoneChest.syncLidValuesAndUpdate(otherChest, stoneChest.openProgress != stoneChest.prevOpenProgress);
 		}
 		return InteractionResult.CONSUME;
 	}
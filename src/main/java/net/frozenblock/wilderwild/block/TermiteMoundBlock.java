@@ -157,16 +157,8 @@ public class TermiteMoundBlock extends BaseEntityBlock {
 
 	@Nullable
 	public <T extends BlockEntity> BlockEntityTicker<T> getTicker(@NotNull Level level, @NotNull BlockState state, @NotNull BlockEntityType<T> type) {
-		return !level.isClientSide ?
-			createTickerHelper(type, WWBlockEntityTypes.TERMITE_MOUND, (worldx, pos, statex, blockEntity) ->
-				blockEntity.tickServer(
-					worldx,
-					pos,
-					statex.getValue(WWBlockStateProperties.NATURAL),
-					statex.getValue(WWBlockStateProperties.TERMITES_AWAKE),
-					statex.getValue(WWBlockStateProperties.CAN_SPAWN_TERMITE)
-				)
-			)
+		// Server-side mounds are ticked in per-chunk batches by the TermiteScheduler.
+		return !level.isClientSide ? null
 			: createTickerHelper(type, WWBlockEntityTypes.TERMITE_MOUND, (worldx, pos, statex, blockEntity) -> blockEntity.tickClient());
 	}
 }
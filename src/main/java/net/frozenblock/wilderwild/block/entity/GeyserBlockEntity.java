@@ -20,6 +20,7 @@ package net.frozenblock.wilderwild.block.entity;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.loader.api.FabricLoader;
@@ -30,6 +31,7 @@ import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.block.GeyserBlock;
 import net.frozenblock.wilderwild.block.state.properties.GeyserStage;
 import net.frozenblock.wilderwild.block.state.properties.GeyserType;
+import net.frozenblock.wilderwild.client.WWParticleBudget;
 import net.frozenblock.wilderwild.mod_compat.FrozenLibIntegration;
 import net.frozenblock.wilderwild.particle.options.WindParticleOptions;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
@@ -45,6 +47,8 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.TickTask;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.tags.BlockTags;
@@ -61,6 +65,7 @@ import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
 import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.levelgen.structure.BoundingBox;
 import net.minecraft.world.level.material.Fluids;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
@@ -85,32 +90,46 @@ public class GeyserBlockEntity extends BlockEntity {
 	public static final double EFFECTIVE_ADDITIONAL_WIND_INTENSITY = 0.5D;
 	public static final double BASE_WIND_INTENSITY = 0.5D;
 	public static final int FIRE_TICKS_MAX = 260;
+	private static final int ERUPTION_COLUMN_LENGTH = 5;
+	private static final EntityTypeTest<Entity, Entity> ENTITY_TYPE_TEST = EntityTypeTest.forClass(Entity.class);
+	private static final Predicate<Entity> ERUPTION_ENTITY_SELECTOR = EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS);
 	private boolean hasRunFirstCheck = false;
 	private int tickUntilNextEvent;
 	private float eruptionProgress;
+	private long nextEventTime;
+	private final BlockState[] eruptionColumn = new BlockState[ERUPTION_COLUMN_LENGTH];
+	private GeyserType columnGeyserType;
+	private Direction columnDirection;
+	private int eruptionLength;
+	private int affectedBlocks;
+	private AABB eruption;
+	private AABB effectiveEruption;
+	private AABB damagingEruption;
+	private WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance;
+	private WindDisturbance<GeyserBlockEntity> baseWindDisturbance;
 
 	public GeyserBlockEntity(@NotNull BlockPos pos, @NotNull BlockState state) {
 		super(WWBlockEntityTypes.GEYSER, pos, state);
 	}
 
+	/**
+	 * Only erupting geysers tick; dormant and active geysers sleep until their next scheduled tick.
+	 */
 	public void tickServer(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state, RandomSource random) {
 		GeyserType geyserType = state.getValue(GeyserBlock.GEYSER_TYPE);
 		GeyserStage geyserStage = state.getValue(GeyserBlock.GEYSER_STAGE);
 		Direction direction = state.getValue(GeyserBlock.FACING);
 		boolean natural = state.getValue(GeyserBlock.NATURAL);
+		level.getProfiler().incrementCounter("geyserTicks");
 
-		if (!this.hasRunFirstCheck) {
-			level.scheduleTick(pos, this.getBlockState().getBlock(), level.random.nextInt(TICK_DELAY_START_MIN, TICK_DELAY_START_MAX));
-			this.hasRunFirstCheck = true;
-		} else if (GeyserBlock.isActive(geyserType)) {
-			if (geyserStage == GeyserStage.ERUPTING) {
-				if (this.eruptionProgress == 0F) {
-					this.tickUntilNextEvent = natural ? random.nextInt(MIN_ERUPTION_TICKS, MAX_ERUPTION_TICKS) : ERUPTION_TICKS_UNNATURAL;
-					level.playSound(null, pos, geyserType.getEruptionSound(), SoundSource.BLOCKS, 0.7F, 0.9F + (random.nextFloat() * 0.2F));
-				}
-				this.eruptionProgress = Math.min(1F, this.eruptionProgress + ERUPTION_PROGRESS_INTERVAL);
-				this.handleEruption(level, pos, geyserType, direction);
+		if (GeyserBlock.isActive(geyserType) && geyserStage == GeyserStage.ERUPTING) {
+			if (this.eruptionProgress == 0F) {
+				this.tickUntilNextEvent = natural ? random.nextInt(MIN_ERUPTION_TICKS, MAX_ERUPTION_TICKS) : ERUPTION_TICKS_UNNATURAL;
+				level.playSound(null, pos, geyserType.getEruptionSound(), SoundSource.BLOCKS, 0.7F, 0.9F + (random.nextFloat() * 0.2F));
+				this.markChanged(level);
 			}
+			this.eruptionProgress = Math.min(1F, this.eruptionProgress + ERUPTION_PROGRESS_INTERVAL);
+			this.handleEruption(level, pos, geyserType, direction);
 			this.tickUntilNextEvent -= 1;
 			if (this.tickUntilNextEvent <= 0) {
 				this.advanceStage(level, pos, state, geyserStage, natural, random);
@@ -118,9 +137,77 @@ public class GeyserBlockEntity extends BlockEntity {
 		} else {
 			this.setDormant(level, pos, state, random);
 		}
+	}
+
+	/**
+	 * Called from {@link GeyserBlock#tick} to move a sleeping geyser on to its next stage.
+	 */
+	public void onScheduledTick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, RandomSource random) {
+		GeyserStage geyserStage = state.getValue(GeyserBlock.GEYSER_STAGE);
+		if (geyserStage == GeyserStage.ERUPTING) return;
+
+		long gameTime = level.getGameTime();
+		if (this.nextEventTime > gameTime) {
+			// A stale tick from an earlier stage, as only one tick can be scheduled per position.
+			level.scheduleTick(pos, state.getBlock(), (int) (this.nextEventTime - gameTime));
+			return;
+		}
+
+		level.getProfiler().incrementCounter("geyserWakeUps");
+		if (GeyserBlock.isActive(state.getValue(GeyserBlock.GEYSER_TYPE))) {
+			this.advanceStage(level, pos, state, geyserStage, state.getValue(GeyserBlock.NATURAL), random);
+		} else {
+			this.setDormant(level, pos, state, random);
+		}
+	}
+
+	/**
+	 * Schedules the first tick of a geyser that has just been loaded or placed, as sleeping geysers are not ticked.
+	 */
+	private void scheduleWakeUp(@NotNull ServerLevel level) {
+		BlockPos pos = this.getBlockPos();
+		if (this.isRemoved() || level.getBlockEntity(pos) != this) return;
+
+		BlockState state = this.getBlockState();
+		if (state.getValue(GeyserBlock.GEYSER_STAGE) == GeyserStage.ERUPTING) return;
+
+		int delay;
+		if (!this.hasRunFirstCheck) {
+			delay = level.random.nextInt(TICK_DELAY_START_MIN, TICK_DELAY_START_MAX);
+			this.hasRunFirstCheck = true;
+			this.markChanged(level);
+		} else {
+			delay = Math.max(1, this.tickUntilNextEvent);
+		}
+		this.nextEventTime = level.getGameTime() + delay;
+		scheduleWakeUpTick(level, pos, state, delay);
+	}
+
+	/**
+	 * Replaces any pending tick at the geyser's position with one after the given delay.
+	 * <p>
+	 * Block ticks are deduplicated per position and block, so scheduling over a later pending tick would otherwise be ignored.
+	 */
+	private static void scheduleWakeUpTick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, int delay) {
+		level.getBlockTicks().clearArea(new BoundingBox(pos));
+		level.scheduleTick(pos, state.getBlock(), delay);
+	}
+
+	private void markChanged(@NotNull Level level) {
+		level.getProfiler().incrementCounter("geyserChangesMarked");
 		this.setChanged();
 	}
 
+	@Override
+	public void clearRemoved() {
+		super.clearRemoved();
+		if (this.level instanceof ServerLevel serverLevel) {
+			// Ticks can't be scheduled until the chunk has finished loading.
+			MinecraftServer server = serverLevel.getServer();
+			server.tell(new TickTask(server.getTickCount(), () -> this.scheduleWakeUp(serverLevel)));
+		}
+	}
+
 	private static boolean canEruptionPassThrough(Level level, BlockPos pos, @NotNull BlockState state, @NotNull Direction direction) {
 		return !((state.isFaceSturdy(level, pos, direction.getOpposite(), SupportType.CENTER) && !state.is(WWBlockTags.GEYSER_CAN_PASS_THROUGH))
 				|| state.is(WWBlockTags.GEYSER_CANNOT_PASS_THROUGH));
@@ -139,110 +226,158 @@ public class GeyserBlockEntity extends BlockEntity {
 		);
 	}
 
-	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
-		BlockPos maxEndPos = pos.relative(direction, (int) ERUPTION_DISTANCE);
-		Optional<BlockPos> cutoffPos = Optional.empty();
-		Optional<BlockPos> damageCutoffPos = Optional.empty();
+	/**
+	 * Scans the blocks in front of the geyser, but only recalculates the eruption's bounds when one of them has changed.
+	 * <p>
+	 * The column is reread every eruption tick, as blocks further than one block away never send the geyser a neighbor update.
+	 *
+	 * @return whether the eruption's bounds were recalculated.
+	 */
+	private boolean updateEruptionColumn(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
 		BlockPos.MutableBlockPos mutablePos = pos.mutable();
-		for (int i = 0; i < 5; i++) {
-			if (level.hasChunkAt(mutablePos.move(direction))) {
-				BlockState state = level.getBlockState(mutablePos);
+		boolean changed = this.columnGeyserType != geyserType || this.columnDirection != direction;
+		for (int i = 0; i < ERUPTION_COLUMN_LENGTH; i++) {
+			BlockState state = level.hasChunkAt(mutablePos.move(direction)) ? level.getBlockState(mutablePos) : null;
+			if (this.eruptionColumn[i] != state) {
+				this.eruptionColumn[i] = state;
+				changed = true;
+			}
+		}
+		if (!changed) return false;
+
+		int endOffset = ERUPTION_COLUMN_LENGTH;
+		int cutoffOffset = -1;
+		int damageCutoffOffset = -1;
+		mutablePos.set(pos);
+		for (int i = 0; i < ERUPTION_COLUMN_LENGTH; i++) {
+			mutablePos.move(direction);
+			BlockState state = this.eruptionColumn[i];
+			if (state != null) {
 				if (!canEruptionPassThrough(level, mutablePos, state, direction)) {
+					endOffset = i + 1;
 					break;
 				}
 				boolean mismatchesAir = geyserType == GeyserType.AIR && !state.getFluidState().isEmpty();
 				boolean mismatchesWater = geyserType == GeyserType.WATER && !state.getFluidState().is(Fluids.WATER);
 				boolean mismatchesLava = geyserType == GeyserType.LAVA && !state.getFluidState().is(Fluids.LAVA);
 				if (mismatchesAir || mismatchesWater || mismatchesLava) {
-					if (cutoffPos.isEmpty()) cutoffPos = Optional.of(mutablePos.immutable());
+					if (cutoffOffset == -1) cutoffOffset = i + 1;
 				}
 				if (geyserType == GeyserType.LAVA && state.getFluidState().is(FluidTags.WATER)) {
-					if (damageCutoffPos.isEmpty()) damageCutoffPos = Optional.of(mutablePos.immutable());
+					if (damageCutoffOffset == -1) damageCutoffOffset = i + 1;
 				}
 			}
 		}
-		AABB eruption = aabb(pos, mutablePos.immutable());
-		mutablePos.move(direction.getOpposite());
-
-		AABB effectiveEruption = cutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-		AABB damagingEruption = damageCutoffPos.map(blockPos ->
-				aabb(pos, blockPos.immutable().relative(direction.getOpposite())))
-			.orElseGet(() -> aabb(pos, mutablePos.immutable()));
-
-		AABB maxPossibleEruptionBox = getPossibleEruptionBoundingBox(pos, maxEndPos);
-		List<Entity> entities = level.getEntities(
-			EntityTypeTest.forClass(Entity.class),
-			maxPossibleEruptionBox,
-			EntitySelector.ENTITY_STILL_ALIVE.and(EntitySelector.NO_SPECTATORS)
-		);
-		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
 
-		WindDisturbance<GeyserBlockEntity> effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+		this.eruptionLength = endOffset - 1;
+		this.eruption = aabb(pos, pos.relative(direction, endOffset));
+		BlockPos lastPos = pos.relative(direction, this.eruptionLength);
+		this.effectiveEruption = aabb(pos, cutoffOffset != -1 ? pos.relative(direction, cutoffOffset - 1) : lastPos);
+		this.damagingEruption = aabb(pos, damageCutoffOffset != -1 ? pos.relative(direction, damageCutoffOffset - 1) : lastPos);
+
+		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
+		Vec3 windOffset = Vec3.atLowerCornerOf(direction.getNormal()).scale(0.5D);
+		this.effectiveWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
 			Optional.of(this),
 			geyserStartPos,
-			effectiveEruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+			this.effectiveEruption.inflate(0.5D).move(windOffset),
 			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_EFFECTIVE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
 		);
-		WindDisturbance<GeyserBlockEntity> baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
+		this.baseWindDisturbance = new WindDisturbance<GeyserBlockEntity>(
 			Optional.of(this),
 			geyserStartPos,
-			eruption.inflate(0.5D).move(direction.step().mul(0.5F)),
+			this.eruption.inflate(0.5D).move(windOffset),
 			WindDisturbanceLogic.getWindDisturbanceLogic(FrozenLibIntegration.GEYSER_BASE_WIND_DISTURBANCE).orElse(DUMMY_WIND_LOGIC)
 		);
 
+		this.columnGeyserType = geyserType;
+		this.columnDirection = direction;
+		return true;
+	}
+
+	private void handleEruption(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction) {
+		boolean columnChanged = this.updateEruptionColumn(level, pos, geyserType, direction);
+		AABB eruption = this.eruption;
+		AABB effectiveEruption = this.effectiveEruption;
+		AABB damagingEruption = this.damagingEruption;
+
+		AABB maxPossibleEruptionBox = this.getPossibleEruptionBoundingBox(pos, pos.relative(direction, (int) ERUPTION_DISTANCE));
+		List<Entity> entities = level.getEntities(ENTITY_TYPE_TEST, maxPossibleEruptionBox, ERUPTION_ENTITY_SELECTOR);
+		Vec3 geyserStartPos = Vec3.atCenterOf(pos);
+
 		if (level instanceof ServerLevel serverLevel) {
 			WindManager windManager = WindManager.getWindManager(serverLevel);
-			windManager.addWindDisturbance(effectiveWindDisturbance);
-			windManager.addWindDisturbance(baseWindDisturbance);
+			windManager.addWindDisturbance(this.effectiveWindDisturbance);
+			windManager.addWindDisturbance(this.baseWindDisturbance);
 		} else if (FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT) {
-			addWindDisturbanceToClient(effectiveWindDisturbance);
-			addWindDisturbanceToClient(baseWindDisturbance);
+			addWindDisturbanceToClient(this.effectiveWindDisturbance);
+			addWindDisturbanceToClient(this.baseWindDisturbance);
 		}
 
-		Vec3 movement = Vec3.atLowerCornerOf(direction.getNormal());
-		for (Entity entity : entities) {
-			AABB boundingBox = entity.getBoundingBox();
-			if (eruption.intersects(boundingBox)) {
-				boolean applyMovement = true;
-				if (entity instanceof Player player) {
-					if (!player.getAbilities().flying) {
-						if (direction == Direction.UP) {
-							Vec3 lastImpactPos = player.currentImpulseImpactPos;
-							Vec3 playerPos = player.position();
-							player.currentImpulseImpactPos = new Vec3(
-								playerPos.x(),
-								lastImpactPos != null ? Math.min(lastImpactPos.y(), playerPos.y()) : playerPos.y(),
-								playerPos.z()
-							);
-							player.setIgnoreFallDamageFromCurrentImpulse(true);
+		if (!entities.isEmpty()) {
+			Vec3 movement = Vec3.atLowerCornerOf(direction.getNormal());
+			for (Entity entity : entities) {
+				AABB boundingBox = entity.getBoundingBox();
+				if (eruption.intersects(boundingBox)) {
+					boolean applyMovement = true;
+					if (entity instanceof Player player) {
+						if (!player.getAbilities().flying) {
+							if (direction == Direction.UP) {
+								Vec3 lastImpactPos = player.currentImpulseImpactPos;
+								Vec3 playerPos = player.position();
+								player.currentImpulseImpactPos = new Vec3(
+									playerPos.x(),
+									lastImpactPos != null ? Math.min(lastImpactPos.y(), playerPos.y()) : playerPos.y(),
+									playerPos.z()
+								);
+								player.setIgnoreFallDamageFromCurrentImpulse(true);
+							}
+						} else {
+							applyMovement = false;
 						}
-					} else {
-						applyMovement = false;
 					}
-				}
-				if (applyMovement) {
-					double intensity = (ERUPTION_DISTANCE - Math.min(entity.position().distanceTo(geyserStartPos), ERUPTION_DISTANCE)) / ERUPTION_DISTANCE;
-					double pushIntensity = (effectiveEruption.intersects(boundingBox) ? EFFECTIVE_PUSH_INTENSITY : INEFFECTIVE_PUSH_INTENSITY) * (entity.getType().is(WWEntityTags.GEYSER_PUSHES_FURTHER) ? 1.5D : 1D);
-					double overallIntensity = intensity * pushIntensity;
-					Vec3 deltaMovement = entity.getDeltaMovement().add(movement.scale(overallIntensity));
-					entity.setDeltaMovement(deltaMovement);
-				}
-				if (damagingEruption.intersects(boundingBox)) {
-					double damageIntensity = Math.max((ERUPTION_DISTANCE - Math.min(entity.position().distanceTo(geyserStartPos), ERUPTION_DISTANCE)) / ERUPTION_DISTANCE, ERUPTION_DISTANCE * 0.1D);
-					if (geyserType == GeyserType.LAVA) {
-						if (!entity.fireImmune()) {
-							entity.igniteForTicks((int) (FIRE_TICKS_MAX * damageIntensity));
-							entity.hurt(level.damageSources().inFire(), 1F);
+					if (applyMovement) {
+						double intensity = (ERUPTION_DISTANCE - Math.min(entity.position().distanceTo(geyserStartPos), ERUPTION_DISTANCE)) / ERUPTION_DISTANCE;
+						double pushIntensity = (effectiveEruption.intersects(boundingBox) ? EFFECTIVE_PUSH_INTENSITY : INEFFECTIVE_PUSH_INTENSITY) * (entity.getType().is(WWEntityTags.GEYSER_PUSHES_FURTHER) ? 1.5D : 1D);
+						double overallIntensity = intensity * pushIntensity;
+						Vec3 deltaMovement = entity.getDeltaMovement().add(movement.scale(overallIntensity));
+						entity.setDeltaMovement(deltaMovement);
+					}
+					if (damagingEruption.intersects(boundingBox)) {
+						double damageIntensity = Math.max((ERUPTION_DISTANCE - Math.min(entity.position().distanceTo(geyserStartPos), ERUPTION_DISTANCE)) / ERUPTION_DISTANCE, ERUPTION_DISTANCE * 0.1D);
+						if (geyserType == GeyserType.LAVA) {
+							if (!entity.fireImmune()) {
+								entity.igniteForTicks((int) (FIRE_TICKS_MAX * damageIntensity));
+								entity.hurt(level.damageSources().inFire(), 1F);
+							}
 						}
 					}
 				}
 			}
 		}
 
-		for (BlockPos blockPos : BlockPos.betweenClosed(pos, mutablePos.immutable())) {
-			if (maxPossibleEruptionBox.contains(Vec3.atCenterOf(blockPos)) && level.hasChunkAt(blockPos)) {
+		// Blocks only need to be lit or extinguished when the eruption reaches them, or when one of them has changed.
+		int affectedBlocks = 0;
+		for (int i = 0; i <= this.eruptionLength; i++) {
+			if (maxPossibleEruptionBox.contains(
+				pos.getX() + 0.5D + (direction.getStepX() * i),
+				pos.getY() + 0.5D + (direction.getStepY() * i),
+				pos.getZ() + 0.5D + (direction.getStepZ() * i)
+			)) {
+				affectedBlocks = i + 1;
+			}
+		}
+		if (columnChanged || affectedBlocks != this.affectedBlocks) {
+			this.affectedBlocks = affectedBlocks;
+			applyEruptionToBlocks(level, pos, geyserType, direction, affectedBlocks);
+		}
+	}
+
+	private static void applyEruptionToBlocks(Level level, @NotNull BlockPos pos, GeyserType geyserType, Direction direction, int affectedBlocks) {
+		BlockPos.MutableBlockPos blockPos = pos.mutable();
+		for (int i = 0; i < affectedBlocks; i++) {
+			if (i > 0) blockPos.move(direction);
+			if (level.hasChunkAt(blockPos)) {
 				BlockState state = level.getBlockState(blockPos);
 
 				if (geyserType == GeyserType.LAVA) {
@@ -314,6 +449,16 @@ public class GeyserBlockEntity extends BlockEntity {
 		} else if (geyserStage != GeyserStage.ERUPTING) { // Eruption duration is set in serverTick to work with Redstone properly
 			this.tickUntilNextEvent = random.nextInt(MIN_DORMANT_TICKS, MAX_DORMANT_TICKS);
 		}
+
+		if (geyserStage == GeyserStage.ERUPTING) {
+			this.nextEventTime = 0L;
+		} else {
+			this.nextEventTime = level.getGameTime() + this.tickUntilNextEvent;
+			if (level instanceof ServerLevel serverLevel) {
+				scheduleWakeUpTick(serverLevel, pos, state, this.tickUntilNextEvent);
+			}
+		}
+		this.markChanged(level);
 	}
 
 	@Environment(EnvType.CLIENT)
@@ -345,7 +490,7 @@ public class GeyserBlockEntity extends BlockEntity {
 	protected void saveAdditional(@NotNull CompoundTag tag, HolderLookup.Provider provider) {
 		super.saveAdditional(tag, provider);
 		tag.putBoolean("HasRunFirstCheck", this.hasRunFirstCheck);
-		tag.putInt("TicksUntilNextEvent", this.tickUntilNextEvent);
+		tag.putInt("TicksUntilNextEvent", this.getTicksUntilNextEvent());
 		tag.putFloat("EruptionProgress", this.eruptionProgress);
 	}
 
@@ -357,6 +502,13 @@ public class GeyserBlockEntity extends BlockEntity {
 		this.eruptionProgress = tag.getFloat("EruptionProgress");
 	}
 
+	private int getTicksUntilNextEvent() {
+		if (this.nextEventTime > 0L && this.level != null && this.getBlockState().getValue(GeyserBlock.GEYSER_STAGE) != GeyserStage.ERUPTING) {
+			return (int) Math.max(0L, this.nextEventTime - this.level.getGameTime());
+		}
+		return this.tickUntilNextEvent;
+	}
+
 	@Environment(EnvType.CLIENT)
 	private static void addWindDisturbanceToClient(@NotNull WindDisturbance windDisturbance) {
 		ClientWindManager.addWindDisturbance(windDisturbance);
@@ -487,10 +639,14 @@ public class GeyserBlockEntity extends BlockEntity {
 		Minecraft client = Minecraft.getInstance();
 		ParticleStatus particleStatus = client.options.particles().get();
 		ParticleEngine particleEngine = client.particleEngine;
+		double x = blockPos.getX() + 0.5D;
+		double y = blockPos.getY() + 0.5D;
+		double z = blockPos.getZ() + 0.5D;
 		if (geyserType == GeyserType.WATER) {
 			if (random.nextFloat() <= 0.4F) { // Bubble
 				int count = random.nextInt(1, 4);
 				for (int i = 0; i < count; i++) {
+					if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.GEYSER, WWParticleBudget.Priority.HIGH, x, y, z)) break;
 					Vec3 particlePos = GeyserBlock.getParticlePos(blockPos, direction, random);
 					Vec3 particleVelocity = GeyserBlock.getParticleVelocity(direction, random, 1.7D, 4D);
 					particleVelocity = particleVelocity.add(GeyserBlock.getVelocityFromDistance(blockPos, direction, particlePos, random, 0.15D));
@@ -510,6 +666,7 @@ public class GeyserBlockEntity extends BlockEntity {
 			if (random.nextFloat() <= 0.5F) { // Dust Plume
 				int count = random.nextInt(1, 5);
 				for (int i = 0; i < count; i++) {
+					if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.GEYSER, WWParticleBudget.Priority.HIGH, x, y, z)) break;
 					Vec3 particlePos = GeyserBlock.getParticlePos(blockPos, direction, random);
 					Vec3 particleVelocity = GeyserBlock.getParticleVelocity(direction, random, 0.8D, 1.4D);
 					particleVelocity = particleVelocity.add(GeyserBlock.getVelocityFromDistance(blockPos, direction, particlePos, random, 0.275D));
@@ -530,6 +687,7 @@ public class GeyserBlockEntity extends BlockEntity {
 			if (random.nextFloat() <= 0.7F) { // Large Smoke
 				int count = random.nextInt(1, 4);
 				for (int i = 0; i < count; i++) {
+					if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.GEYSER, WWParticleBudget.Priority.LOW, x, y, z)) break;
 					Vec3 particlePos = GeyserBlock.getParticlePos(blockPos, direction, random);
 					Vec3 particleVelocity = GeyserBlock.getParticleVelocity(direction, random, 0.2D, 0.9D);
 					particleVelocity = particleVelocity.add(GeyserBlock.getVelocityFromDistance(blockPos, direction, particlePos, random, 0.275D));
@@ -548,6 +706,7 @@ public class GeyserBlockEntity extends BlockEntity {
 			int count = random.nextInt(1, 5);
 			for (int i = 0; i < count; i++) {
 				if (random.nextFloat() <= 0.9F) { // Flame
+					if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.GEYSER, WWParticleBudget.Priority.LOW, x, y, z)) break;
 					Vec3 particlePos = GeyserBlock.getParticlePos(blockPos, direction, random);
 					Vec3 particleVelocity = GeyserBlock.getParticleVelocity(direction, random, 0.1D, 0.6D);
 					particleVelocity = particleVelocity.add(GeyserBlock.getVelocityFromDistance(blockPos, direction, particlePos, random, 0.225D));
@@ -570,6 +729,7 @@ public class GeyserBlockEntity extends BlockEntity {
 				} else if (particleStatus == ParticleStatus.MINIMAL && random.nextFloat() <= 0.675F) {
 					break;
 				}
+				if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.GEYSER, WWParticleBudget.Priority.LOW, x, y, z)) break;
 				Vec3 particlePos = GeyserBlock.getParticlePos(blockPos, direction, random);
 				Vec3 particleVelocity = GeyserBlock.getParticleVelocity(direction, random, 0.6D, 0.8D);
 				particleVelocity = particleVelocity.add(GeyserBlock.getVelocityFromDistance(blockPos, direction, particlePos, random, 0.2D));
@@ -596,6 +756,7 @@ public class GeyserBlockEntity extends BlockEntity {
 				} else if (particleStatus == ParticleStatus.MINIMAL && random.nextFloat() <= 0.675F) {
 					break;
 				}
+				if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.GEYSER, WWParticleBudget.Priority.LOW, x, y, z)) break;
 				Vec3 particlePos = GeyserBlock.getParticlePos(blockPos, direction, random);
 				Vec3 particleVelocity = GeyserBlock.getParticleVelocity(direction, random, 0.6D, 0.8D);
 				particleVelocity = particleVelocity.add(GeyserBlock.getVelocityFromDistance(blockPos, direction, particlePos, random, 0.2D));
@@ -20,7 +20,6 @@ package net.frozenblock.wilderwild.block.entity;
 
 import com.mojang.logging.LogUtils;
 import com.mojang.serialization.Dynamic;
-import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.block.HangingTendrilBlock;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
 import net.frozenblock.wilderwild.registry.WWGameEvents;
@@ -30,7 +29,6 @@ import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.ExperienceOrb;
@@ -62,19 +60,12 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 	public static final double MILK_XP_PERCENTAGE = 0.5D;
 
 	private static final Logger LOGGER = LogUtils.getLogger();
-	private static final String BASE_TEXTURE = "textures/entity/hanging_tendril/";
 	private final VibrationSystem.Listener vibrationListener;
 	private final VibrationSystem.User vibrationUser = this.createVibrationUser();
 	public int ticksToStopTwitching;
 	private int storedXP;
 	public int ringOutTicksLeft;
 	private int activeTicks;
-	//CLIENT ONLY
-	public ResourceLocation texture = WWConstants.id("textures/entity/hanging_tendril/inactive1.png");
-	public boolean twitching;
-	public boolean active;
-	public boolean milking;
-	public int ticks;
 	private VibrationSystem.Data vibrationData;
 	private int lastVibrationFrequency;
 
@@ -84,11 +75,18 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		this.vibrationListener = new VibrationSystem.Listener(this);
 	}
 
+	/**
+	 * Only runs while the tendril is twitching, wringing out or active, as {@link HangingTendrilBlock#getTicker} does not provide a ticker otherwise.
+	 */
 	public void serverTick(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockState state) {
-		if (this.ticksToStopTwitching <= 0) {
-			level.setBlockAndUpdate(pos, state.setValue(HangingTendrilBlock.TWITCHING, false));
+		level.getProfiler().incrementCounter("hangingTendrilTicks");
+		if (this.ticksToStopTwitching <= 0 && state.getValue(HangingTendrilBlock.TWITCHING)) {
+			state = state.setValue(HangingTendrilBlock.TWITCHING, false);
+			level.setBlockAndUpdate(pos, state);
+		}
+		if (this.ticksToStopTwitching > 0) {
+			--this.ticksToStopTwitching;
 		}
-		--this.ticksToStopTwitching;
 		if (this.ringOutTicksLeft >= 0) {
 			--this.ringOutTicksLeft;
 		} else if (state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
@@ -108,25 +106,22 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 		} else if (state.getValue(HangingTendrilBlock.PHASE) == SculkSensorPhase.ACTIVE) {
 			this.activeTicks += 1;
 		}
-		VibrationSystem.Ticker.tick(level, this.getVibrationData(), this.getVibrationUser());
 	}
 
-	public void clientTick(@NotNull BlockState state) {
-		this.twitching = this.ticksToStopTwitching > 0;
-		this.milking = this.ringOutTicksLeft > 0;
-		this.active = !SculkSensorBlock.canActivate(state);
-		++this.ticks;
-		if (milking) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "milk" + (((this.ticks / MILK_ANIM_SPEED) % MILK_FRAMES) + 1) + ".png");
-		} else if (active) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "active" + (((this.ticks / ACTIVE_ANIM_SPEED) % ACTIVE_FRAMES) + 1) + ".png");
-		} else if (twitching) {
-			this.texture = WWConstants.id(BASE_TEXTURE + "twitch" + (((this.ticks / TWITCHING_ANIM_SPEED) % TWITCHING_FRAMES) + 1) + ".png");
-		} else {
-			this.texture = WWConstants.id(BASE_TEXTURE + "inactive" + (((this.ticks / INACTIVE_ANIM_SPEED) % INACTIVE_FRAMES) + 1) + ".png");
+	/**
+	 * Ticks the vibration system from scheduled block ticks, which are only scheduled while a vibration is on its way to this tendril.
+	 */
+	public void tickVibrationSystem(@NotNull ServerLevel level, @NotNull BlockPos pos) {
+		VibrationSystem.Ticker.tick(level, this.getVibrationData(), this.getVibrationUser());
+		if (this.hasPendingVibration()) {
+			level.scheduleTick(pos, this.getBlockState().getBlock(), 1);
 		}
 	}
 
+	private boolean hasPendingVibration() {
+		return this.vibrationData.getCurrentVibration() != null || this.vibrationData.getSelectionStrategy().chosenCandidate(Long.MAX_VALUE).isPresent();
+	}
+
 	public int getStoredXP() {
 		return this.storedXP;
 	}
@@ -242,7 +237,12 @@ public class HangingTendrilBlockEntity extends BlockEntity implements GameEventL
 				return false;
 			}
 			BlockState state = level.getBlockState(HangingTendrilBlockEntity.this.getBlockPos());
-			return state.getBlock() instanceof HangingTendrilBlock && HangingTendrilBlock.canActivate(state) && !state.getValue(HangingTendrilBlock.WRINGING_OUT);
+			if (state.getBlock() instanceof HangingTendrilBlock && HangingTendrilBlock.canActivate(state) && !state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
+				// The vibration is about to be scheduled, so start ticking the vibration system until it arrives.
+				level.scheduleTick(this.blockPos, state.getBlock(), 1);
+				return true;
+			}
+			return false;
 		}
 
 		@Override
@@ -105,6 +105,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		StoneChestBlockEntity otherChest = StoneChestBlock.getOtherChest(serverLevel, pos, state);
 		long gameTime = level.getGameTime();
 		if (gameTime != stoneChest.updateTime) {
+			boolean closeStarted = false;
 			if (stoneChest.cooldownTicks > 0) {
 				--stoneChest.cooldownTicks;
 			}
@@ -112,19 +113,23 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 			if (stoneChest.stillLidTicks > 0) {
 				stoneChest.stillLidTicks -= 1;
 			} else if (stoneChest.openProgress > 0F) {
-				level.updateNeighbourForOutputSignal(pos, stoneChest.getBlockState().getBlock());
-				serverLevel.gameEvent(null, GameEvent.CONTAINER_CLOSE, pos);
+				int comparatorOutput = stoneChest.getComparatorOutput();
 				stoneChest.openProgress = Math.max(0F, stoneChest.openProgress - LID_SLAM_INTERVAL);
 				if (!stoneChest.closing) {
 					stoneChest.closing = true;
+					closeStarted = true;
+					serverLevel.gameEvent(null, GameEvent.CONTAINER_CLOSE, pos);
 					playSound(serverLevel, pos, state, WWSounds.BLOCK_STONE_CHEST_CLOSE_START, WWSounds.BLOCK_STONE_CHEST_CLOSE_START_UNDERWATER, 0.3F);
 				}
+				if (comparatorOutput != stoneChest.getComparatorOutput()) {
+					level.updateNeighbourForOutputSignal(pos, stoneChest.getBlockState().getBlock());
+				}
 				if (stoneChest.openProgress <= 0F) {
 					stoneChest.onLidSlam(serverLevel, pos, state, otherChest);
 				}
 			}
 			stoneChest.updateTime = gameTime;
-			stoneChest.syncLidValuesAndUpdate(otherChest);
+			stoneChest.syncLidValuesAndUpdate(otherChest, closeStarted);
 		}
 	}
 
@@ -146,7 +151,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 				}
 			}
 			stoneChest.updateTime = gameTime;
-			stoneChest.syncLidValuesAndUpdate(otherChest);
+			stoneChest.syncLidValuesAndUpdate(otherChest, false);
 		}
 	}
 
@@ -258,8 +263,13 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 		return super.stillValid(player) && !this.closing && this.openProgress >= 0.3;
 	}
 
-	public void syncLidValuesAndUpdate(@Nullable StoneChestBlockEntity otherStoneChest) {
-		boolean shouldSend = !this.level.isClientSide && this.openProgress != this.prevOpenProgress;
+	/**
+	 * Copies this chest's lid values to the other half of a double chest, and sends them to clients if requested.
+	 * <p>
+	 * Clients simulate the lid between packets, so they only need to be sent when the lid is lifted or starts closing.
+	 */
+	public void syncLidValuesAndUpdate(@Nullable StoneChestBlockEntity otherStoneChest, boolean sendLidPacket) {
+		boolean shouldSend = sendLidPacket && !this.level.isClientSide;
 		if (otherStoneChest != null) {
 			this.syncValues(otherStoneChest);
 			if (shouldSend) {
@@ -272,7 +282,7 @@ public class StoneChestBlockEntity extends ChestBlockEntity {
 	}
 
 	private void syncValues(@NotNull StoneChestBlockEntity otherStoneChest) {
-		if (otherStoneChest.openProgress != this.openProgress && this.level != null) {
+		if (otherStoneChest.getComparatorOutput() != this.getComparatorOutput() && this.level != null) {
 			this.level.updateNeighbourForOutputSignal(otherStoneChest.getBlockPos(), otherStoneChest.getBlockState().getBlock());
 		}
 		otherStoneChest.openProgress = this.openProgress;
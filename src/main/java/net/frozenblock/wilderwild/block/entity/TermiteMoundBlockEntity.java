@@ -24,6 +24,8 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.entity.ai.TermiteScheduler;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
 import net.frozenblock.wilderwild.registry.WWBlockEntityTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.client.Minecraft;
@@ -33,6 +35,7 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundSource;
@@ -40,7 +43,6 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 public class TermiteMoundBlockEntity extends BlockEntity {
 
@@ -53,8 +55,16 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 		this.termiteManager = new TermiteManager();
 	}
 
-	public void tickServer(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
-		this.termiteManager.tick(level, pos, natural, awake, canSpawn);
+	@Override
+	public void clearRemoved() {
+		super.clearRemoved();
+		if (this.level instanceof ServerLevel serverLevel) {
+			TermiteScheduler.get(serverLevel).addMound(this);
+		}
+	}
+
+	public void tickServer(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn, @NotNull WWTermiteEffectsPacket.Builder effects) {
+		this.termiteManager.tick(level, pos, natural, awake, canSpawn, effects);
 		this.updateSync();
 	}
 
@@ -65,17 +75,18 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 	}
 
 	public void tickClient() {
-		for (TermiteManager.Termite termite : this.termiteManager.termites()) {
-			int termiteID = termite.getID();
+		int termiteCount = this.termiteManager.size();
+		for (int index = 0; index < termiteCount; index++) {
+			int termiteID = this.termiteManager.getTermiteID(index);
 			if (clientTermiteIDs.contains(termiteID) && !this.prevClientTermiteIDs.contains(termiteID)) {
-				addTermiteSound(this, termiteID, termite.getEating());
+				addTermiteSound(this, termiteID, this.termiteManager.isTermiteEating(index));
 			}
 		}
 		this.prevClientTermiteIDs.clear();
 		this.prevClientTermiteIDs.addAll(this.clientTermiteIDs);
 		this.clientTermiteIDs.clear();
-		for (TermiteManager.Termite termite : this.termiteManager.termites()) {
-			this.clientTermiteIDs.add(termite.getID());
+		for (int index = 0; index < termiteCount; index++) {
+			this.clientTermiteIDs.add(this.termiteManager.getTermiteID(index));
 		}
 	}
 
@@ -138,16 +149,11 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 			this.eating = eating;
 		}
 
-		@Nullable
-		public TermiteManager.Termite getTermite() {
+		public int getTermiteIndex() {
 			if (this.mound != null && !this.mound.isRemoved()) {
-				for (TermiteManager.Termite termite : this.mound.termiteManager.termites()) {
-					if (termite.getID() == this.termiteID) {
-						return termite;
-					}
-				}
+				return this.mound.termiteManager.indexOfTermite(this.termiteID);
 			}
-			return null;
+			return -1;
 		}
 
 		@Override
@@ -157,13 +163,13 @@ public class TermiteMoundBlockEntity extends BlockEntity {
 
 		@Override
 		public void tick() {
-			TermiteManager.Termite termite = this.getTermite();
-			if (termite != null) {
-				BlockPos pos = termite.getPos();
-				this.x = pos.getX();
-				this.y = pos.getY();
-				this.z = pos.getZ();
-				if (termite.getEating() != this.eating) {
+			int termiteIndex = this.getTermiteIndex();
+			if (termiteIndex >= 0) {
+				long pos = this.mound.termiteManager.getTermitePos(termiteIndex);
+				this.x = BlockPos.getX(pos);
+				this.y = BlockPos.getY(pos);
+				this.z = BlockPos.getZ(pos);
+				if (this.mound.termiteManager.isTermiteEating(termiteIndex) != this.eating) {
 					this.mound.clientTermiteIDs.removeIf((i -> i == this.termiteID));
 					this.stop();
 				}
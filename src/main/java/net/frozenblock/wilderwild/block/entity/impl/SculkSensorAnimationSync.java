@@ -0,0 +1,93 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.entity.impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.wilderwild.networking.packet.WWSculkSensorAnimationPacket;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Collects Sculk Sensor animation changes during a tick, then sends each chunk's changes to its tracking players as one {@link WWSculkSensorAnimationPacket}.
+ * <p>
+ * This replaces sending a full block entity update, which includes the Sculk Sensor's whole vibration listener, every time the tendrils need syncing.
+ */
+public class SculkSensorAnimationSync {
+	private static final Map<ServerLevel, SculkSensorAnimationSync> SYNCS = new WeakHashMap<>();
+	private final Long2ObjectOpenHashMap<ObjectArrayList<WWSculkSensorAnimationPacket.Entry>> entriesPerChunk = new Long2ObjectOpenHashMap<>();
+
+	@NotNull
+	public static SculkSensorAnimationSync get(@NotNull ServerLevel level) {
+		return SYNCS.computeIfAbsent(level, serverLevel -> new SculkSensorAnimationSync());
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		SculkSensorAnimationSync sync = SYNCS.get(level);
+		if (sync != null) {
+			sync.tick(level);
+		}
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		SYNCS.remove(level);
+	}
+
+	public static void clearSyncs() {
+		SYNCS.clear();
+	}
+
+	public void queue(@NotNull BlockPos pos, boolean active, int animTicks, @NotNull Direction facing) {
+		this.entriesPerChunk.computeIfAbsent(ChunkPos.asLong(pos), chunkPos -> new ObjectArrayList<>())
+			.add(new WWSculkSensorAnimationPacket.Entry(pos.asLong(), active, animTicks, facing));
+	}
+
+	private void tick(@NotNull ServerLevel level) {
+		if (this.entriesPerChunk.isEmpty()) return;
+		ProfilerFiller profiler = level.getProfiler();
+		profiler.push("sculkSensorAnimationSync");
+		int sensors = 0;
+		int packets = 0;
+		for (Long2ObjectMap.Entry<ObjectArrayList<WWSculkSensorAnimationPacket.Entry>> entry : Long2ObjectMaps.fastIterable(this.entriesPerChunk)) {
+			List<WWSculkSensorAnimationPacket.Entry> entries = entry.getValue();
+			sensors += entries.size();
+			WWSculkSensorAnimationPacket packet = new WWSculkSensorAnimationPacket(List.copyOf(entries));
+			for (ServerPlayer player : PlayerLookup.tracking(level, new ChunkPos(entry.getLongKey()))) {
+				ServerPlayNetworking.send(player, packet);
+				packets += 1;
+			}
+		}
+		this.entriesPerChunk.clear();
+		profiler.incrementCounter("sculkSensorAnimationSyncs", sensors);
+		profiler.incrementCounter("sculkSensorAnimationPackets", packets);
+		profiler.pop();
+	}
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 import net.frozenblock.wilderwild.block.LeafLitterBlock;
+import net.frozenblock.wilderwild.client.WWParticleBudget;
 import net.frozenblock.wilderwild.entity.FallingLeafTicker;
 import net.frozenblock.wilderwild.particle.options.LeafClusterParticleOptions;
 import net.frozenblock.wilderwild.particle.options.LeafParticleOptions;
@@ -35,6 +36,7 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.ParticleUtils;
 import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
@@ -91,36 +93,48 @@ public class FallingLeafUtil {
 		return PARTICLE_TO_LEAF_PARTICLE_DATA.getOrDefault(leafParticle, DEFAULT_LEAF_PARTICLE_DATA);
 	}
 
-	public static void onRandomTick(@NotNull BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
-		if (state.getValue(LeavesBlock.DISTANCE) < 7 && !state.getValue(LeavesBlock.PERSISTENT)) {
-			Block block = state.getBlock();
-
-			Optional<FallingLeafUtil.FallingLeafData> optionalFallingLeafData = FallingLeafUtil.getFallingLeafData(block);
-			if (optionalFallingLeafData.isPresent()) {
-				FallingLeafUtil.FallingLeafData fallingLeafData = optionalFallingLeafData.get();
-				BlockPos belowPos = pos.below();
-				BlockState belowState = world.getBlockState(belowPos);
-				if (!Block.isFaceFull(belowState.getCollisionShape(world, belowPos), Direction.UP)) {
-					if (random.nextFloat() <= fallingLeafData.litterChance()) {
-						world.sendParticles(
-							new BlockParticleOption(ParticleTypes.BLOCK, state),
-							pos.getX() + 0.5D,
-							pos.getY() - 0.1D,
-							pos.getZ() + 0.5D,
-							random.nextInt(12, 24),
-							0.3D, 0D, 0.3D,
-							0.05D
-						);
-						sendLeafClusterParticle(world, pos, fallingLeafData);
-						fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLeafTicker.createAndSpawn(
-							WWEntityTypes.FALLING_LEAVES,
-							world,
-							pos,
-							leafLitterBlock
-						));
-					}
-				}
-			}
+	/**
+	 * @return whether the block state is a leaves block with a registered Leaf Litter block.
+	 */
+	public static boolean dropsLeafLitter(@NotNull BlockState state) {
+		FallingLeafData fallingLeafData = LEAVES_TO_FALLING_LEAF_DATA.get(state.getBlock());
+		return fallingLeafData != null && fallingLeafData.leafLitterBlock.isPresent();
+	}
+
+	/**
+	 * Checks if leaves can drop Leaf Litter from the given position, being a decayable leaves block with a registered litter block and no full face beneath it.
+	 */
+	public static boolean isCanopyBottomLeaf(@NotNull BlockGetter level, @NotNull BlockPos pos, @NotNull BlockState state) {
+		FallingLeafData fallingLeafData = LEAVES_TO_FALLING_LEAF_DATA.get(state.getBlock());
+		if (fallingLeafData == null || fallingLeafData.leafLitterBlock.isEmpty()) return false;
+		if (state.getValue(LeavesBlock.DISTANCE) >= 7 || state.getValue(LeavesBlock.PERSISTENT)) return false;
+		BlockPos belowPos = pos.below();
+		BlockState belowState = level.getBlockState(belowPos);
+		return !Block.isFaceFull(belowState.getCollisionShape(level, belowPos), Direction.UP);
+	}
+
+	/**
+	 * Called by {@link LeafLitterScheduler} for canopy-bottom leaves, at the same rate they would be randomly ticked.
+	 */
+	public static void onLitterTick(@NotNull BlockState state, ServerLevel world, BlockPos pos, RandomSource random) {
+		FallingLeafData fallingLeafData = LEAVES_TO_FALLING_LEAF_DATA.get(state.getBlock());
+		if (fallingLeafData != null && random.nextFloat() <= fallingLeafData.litterChance()) {
+			world.sendParticles(
+				new BlockParticleOption(ParticleTypes.BLOCK, state),
+				pos.getX() + 0.5D,
+				pos.getY() - 0.1D,
+				pos.getZ() + 0.5D,
+				random.nextInt(12, 24),
+				0.3D, 0D, 0.3D,
+				0.05D
+			);
+			sendLeafClusterParticle(world, pos, fallingLeafData);
+			fallingLeafData.leafLitterBlock.ifPresent(leafLitterBlock -> FallingLeafTicker.createAndSpawn(
+				WWEntityTypes.FALLING_LEAVES,
+				world,
+				pos,
+				leafLitterBlock
+			));
 		}
 	}
 
@@ -151,7 +165,9 @@ public class FallingLeafUtil {
 			if (random.nextFloat() <= leafParticleData.particleChance() * leafParticleData.frequencyModifier().get()) {
 				BlockPos blockPos = pos.below();
 				BlockState blockState = world.getBlockState(blockPos);
-				if (!Block.isFaceFull(blockState.getCollisionShape(world, blockPos), Direction.UP)) {
+				if (!Block.isFaceFull(blockState.getCollisionShape(world, blockPos), Direction.UP)
+					&& WWParticleBudget.tryConsume(WWParticleBudget.Family.LEAVES, WWParticleBudget.Priority.LOW, pos.getX() + 0.5D, pos.getY(), pos.getZ() + 0.5D)
+				) {
 					ParticleUtils.spawnParticleBelow(world, pos, random, createLeafParticleOptions(fallingLeafData));
 				}
 			}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.GameRules;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Drops Leaf Litter from the bottom of tree canopies, without making every leaves block randomly tick.
+ * <p>
+ * Each loaded chunk keeps an index of its canopy-bottom leaves, as defined by {@link FallingLeafUtil#isCanopyBottomLeaf}.
+ * Every tick, indexed leaves are sampled at the same rate random ticks would reach them,
+ * so litter falls just as often while forest chunk sections no longer need to be randomly ticked.
+ */
+public class LeafLitterScheduler {
+	private static final Map<ServerLevel, LeafLitterScheduler> SCHEDULERS = new WeakHashMap<>();
+	private final Long2ObjectOpenHashMap<ChunkIndex> chunks = new Long2ObjectOpenHashMap<>();
+	private final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+
+	@NotNull
+	public static LeafLitterScheduler get(@NotNull ServerLevel level) {
+		return SCHEDULERS.computeIfAbsent(level, serverLevel -> new LeafLitterScheduler());
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		LeafLitterScheduler scheduler = SCHEDULERS.get(level);
+		if (scheduler != null) {
+			scheduler.tick(level);
+		}
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		SCHEDULERS.remove(level);
+	}
+
+	public static void clearSchedulers() {
+		SCHEDULERS.clear();
+	}
+
+	private static int pack(@NotNull LevelChunk chunk, @NotNull BlockPos pos) {
+		return ((pos.getY() - chunk.getMinBuildHeight()) << 8) | ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
+	}
+
+	/**
+	 * Scans a chunk for canopy-bottom leaves as it is added to the level, skipping sections that cannot contain any.
+	 */
+	public void addChunk(@NotNull ServerLevel level, @NotNull LevelChunk chunk) {
+		ChunkIndex index = new ChunkIndex();
+		LevelChunkSection[] sections = chunk.getSections();
+		int minX = chunk.getPos().getMinBlockX();
+		int minZ = chunk.getPos().getMinBlockZ();
+		for (int sectionIndex = 0; sectionIndex < sections.length; sectionIndex++) {
+			LevelChunkSection section = sections[sectionIndex];
+			if (section.hasOnlyAir() || !section.maybeHas(FallingLeafUtil::dropsLeafLitter)) continue;
+			int minY = chunk.getSectionYFromSectionIndex(sectionIndex) << 4;
+			for (int y = 0; y < 16; y++) {
+				for (int z = 0; z < 16; z++) {
+					for (int x = 0; x < 16; x++) {
+						BlockState state = section.getBlockState(x, y, z);
+						this.mutableBlockPos.set(minX + x, minY + y, minZ + z);
+						if (FallingLeafUtil.isCanopyBottomLeaf(chunk, this.mutableBlockPos, state)) {
+							index.add(pack(chunk, this.mutableBlockPos));
+						}
+					}
+				}
+			}
+		}
+		this.chunks.put(chunk.getPos().toLong(), index);
+	}
+
+	public void removeChunk(@NotNull LevelChunk chunk) {
+		this.chunks.remove(chunk.getPos().toLong());
+	}
+
+	/**
+	 * Indexes the changed block and the block above it if either is now a canopy-bottom leaf.
+	 * <p>
+	 * Leaves that stop being canopy-bottom leaves are removed when they are next sampled.
+	 */
+	public void onBlockChanged(@NotNull LevelChunk chunk, @NotNull BlockPos pos, @NotNull BlockState state) {
+		ChunkIndex index = this.chunks.get(chunk.getPos().toLong());
+		if (index == null) return;
+		if (FallingLeafUtil.isCanopyBottomLeaf(chunk, pos, state)) {
+			index.add(pack(chunk, pos));
+		}
+		this.mutableBlockPos.setWithOffset(pos, 0, 1, 0);
+		if (this.mutableBlockPos.getY() < chunk.getMaxBuildHeight() && FallingLeafUtil.isCanopyBottomLeaf(chunk, this.mutableBlockPos, chunk.getBlockState(this.mutableBlockPos))) {
+			index.add(pack(chunk, this.mutableBlockPos));
+		}
+	}
+
+	private void tick(@NotNull ServerLevel level) {
+		if (this.chunks.isEmpty()) return;
+		int randomTickSpeed = level.getGameRules().getInt(GameRules.RULE_RANDOMTICKING);
+		if (randomTickSpeed <= 0) return;
+		ProfilerFiller profiler = level.getProfiler();
+		profiler.push("wilderWildLeafLitter");
+		RandomSource random = level.getRandom();
+		int minY = level.getMinBuildHeight();
+		int samples = 0;
+
+		for (Long2ObjectMap.Entry<ChunkIndex> entry : Long2ObjectMaps.fastIterable(this.chunks)) {
+			ChunkIndex index = entry.getValue();
+			if (index.positions.isEmpty()) continue;
+			long chunkPos = entry.getLongKey();
+			if (!level.shouldTickBlocksAt(chunkPos)) continue;
+			// Matches the player proximity check vanilla runs before randomly ticking a chunk.
+			if (!level.getChunkSource().chunkMap.anyPlayerCloseEnoughForSpawning(new ChunkPos(chunkPos))) continue;
+
+			// Random ticks pick randomTickSpeed blocks out of every 4096 in a section each tick.
+			float expectedPicks = index.positions.size() * randomTickSpeed / (float) LevelChunkSection.SECTION_SIZE;
+			int picks = (int) expectedPicks;
+			if (random.nextFloat() < expectedPicks - picks) {
+				picks += 1;
+			}
+
+			int minX = ChunkPos.getX(chunkPos) << 4;
+			int minZ = ChunkPos.getZ(chunkPos) << 4;
+			for (int i = 0; i < picks && !index.positions.isEmpty(); i++) {
+				int positionIndex = random.nextInt(index.positions.size());
+				int packedPos = index.positions.getInt(positionIndex);
+				this.mutableBlockPos.set(minX + (packedPos & 15), minY + (packedPos >>> 8), minZ + ((packedPos >> 4) & 15));
+				BlockState state = level.getBlockState(this.mutableBlockPos);
+				if (FallingLeafUtil.isCanopyBottomLeaf(level, this.mutableBlockPos, state)) {
+					FallingLeafUtil.onLitterTick(state, level, this.mutableBlockPos.immutable(), random);
+				} else {
+					index.remove(positionIndex);
+				}
+				samples += 1;
+			}
+		}
+
+		profiler.incrementCounter("leafLitterSamples", samples);
+		profiler.pop();
+	}
+
+	private static class ChunkIndex {
+		private final IntArrayList positions = new IntArrayList();
+		private final IntOpenHashSet members = new IntOpenHashSet();
+
+		private void add(int packedPos) {
+			if (this.members.add(packedPos)) {
+				this.positions.add(packedPos);
+			}
+		}
+
+		private void remove(int positionIndex) {
+			int lastIndex = this.positions.size() - 1;
+			this.members.remove(this.positions.getInt(positionIndex));
+			this.positions.set(positionIndex, this.positions.getInt(lastIndex));
+			this.positions.removeInt(lastIndex);
+		}
+	}
+}
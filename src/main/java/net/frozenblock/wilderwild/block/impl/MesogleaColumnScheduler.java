@@ -0,0 +1,132 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import it.unimi.dsi.fastutil.ints.IntAVLTreeSet;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.frozenblock.wilderwild.block.MesogleaBlock;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.profiling.ProfilerFiller;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Merges Mesoglea bubble column updates per column, running them at the end of each level tick.
+ * <p>
+ * Each column is updated once from its bottom block, no matter how many of its blocks were ticked,
+ * so changing the block under a tall column no longer makes every block in it walk the rest of the column.
+ * The resulting block changes are all made in the same tick, so they are sent together in each section's block update packet.
+ */
+public class MesogleaColumnScheduler {
+	private static final Map<ServerLevel, MesogleaColumnScheduler> SCHEDULERS = new WeakHashMap<>();
+	private static final int MAX_COLUMNS_PER_TICK = 256;
+	private final Long2ObjectLinkedOpenHashMap<IntAVLTreeSet> pendingColumns = new Long2ObjectLinkedOpenHashMap<>();
+	private final BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+
+	@NotNull
+	public static MesogleaColumnScheduler get(@NotNull ServerLevel level) {
+		return SCHEDULERS.computeIfAbsent(level, serverLevel -> new MesogleaColumnScheduler());
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		MesogleaColumnScheduler scheduler = SCHEDULERS.get(level);
+		if (scheduler != null) {
+			scheduler.tick(level);
+		}
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		SCHEDULERS.remove(level);
+	}
+
+	public static void clearSchedulers() {
+		SCHEDULERS.clear();
+	}
+
+	/**
+	 * Queues the column containing a Mesoglea block to be updated at the end of the current level tick.
+	 */
+	public void queue(@NotNull BlockPos pos) {
+		long columnKey = packColumn(pos.getX(), pos.getZ());
+		IntAVLTreeSet pendingHeights = this.pendingColumns.get(columnKey);
+		if (pendingHeights == null) {
+			pendingHeights = new IntAVLTreeSet();
+			this.pendingColumns.put(columnKey, pendingHeights);
+		}
+		pendingHeights.add(pos.getY());
+	}
+
+	/**
+	 * Updates up to {@link #MAX_COLUMNS_PER_TICK} queued columns, leaving the rest for the next tick.
+	 * <p>
+	 * Queued blocks that were already covered by an update lower in the same column are skipped.
+	 */
+	private void tick(@NotNull ServerLevel level) {
+		if (this.pendingColumns.isEmpty()) return;
+		ProfilerFiller profiler = level.getProfiler();
+		profiler.push("wilderWildMesogleaColumns");
+		int columns = 0;
+		int updates = 0;
+		int mergedUpdates = 0;
+
+		while (!this.pendingColumns.isEmpty() && columns < MAX_COLUMNS_PER_TICK) {
+			long columnKey = this.pendingColumns.firstLongKey();
+			IntAVLTreeSet pendingHeights = this.pendingColumns.removeFirst();
+			int x = getColumnX(columnKey);
+			int z = getColumnZ(columnKey);
+			int updatedTop = Integer.MIN_VALUE;
+			IntIterator iterator = pendingHeights.iterator();
+			while (iterator.hasNext()) {
+				int y = iterator.nextInt();
+				if (y <= updatedTop) {
+					mergedUpdates += 1;
+					continue;
+				}
+				this.mutableBlockPos.set(x, y, z);
+				if (level.isLoaded(this.mutableBlockPos)) {
+					updatedTop = MesogleaBlock.updateQueuedColumn(level, this.mutableBlockPos, updatedTop);
+					updates += 1;
+				}
+			}
+			columns += 1;
+		}
+
+		profiler.incrementCounter("mesogleaColumnUpdates", updates);
+		profiler.incrementCounter("mesogleaColumnUpdatesMerged", mergedUpdates);
+		profiler.pop();
+	}
+
+	/**
+	 * Packs a block column's x and z coordinates, which are block coordinates rather than chunk coordinates.
+	 */
+	private static long packColumn(int x, int z) {
+		return ((long) z << 32) | (x & 0xFFFFFFFFL);
+	}
+
+	private static int getColumnX(long columnKey) {
+		return (int) columnKey;
+	}
+
+	private static int getColumnZ(long columnKey) {
+		return (int) (columnKey >>> 32);
+	}
+}
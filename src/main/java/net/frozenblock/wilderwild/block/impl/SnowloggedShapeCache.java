@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.block.impl;
+
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Holds the merged block and snow shapes of a single snowlogged {@link net.minecraft.world.level.block.state.BlockState}.
+ * <p>
+ * Each merged shape is keyed by the identity of the block's own shape.
+ * A lookup only hits when the block hands back the same shape instance it returned for {@link EmptyBlockGetter},
+ * so position- or context-dependent shapes always fall back to merging on the spot.
+ */
+public class SnowloggedShapeCache {
+	private final Entry[] entries = new Entry[ShapeType.values().length];
+
+	@Nullable
+	public VoxelShape getMergedShape(@NotNull ShapeType type, @NotNull VoxelShape original) {
+		Entry entry = this.entries[type.ordinal()];
+		return entry != null && entry.original == original ? entry.merged : null;
+	}
+
+	/**
+	 * Stores a merged shape, but only for the first context-independent query of each {@link ShapeType}.
+	 */
+	public void cacheMergedShape(@NotNull ShapeType type, @NotNull BlockGetter level, @NotNull VoxelShape original, @NotNull VoxelShape merged) {
+		int index = type.ordinal();
+		if (level == EmptyBlockGetter.INSTANCE && this.entries[index] == null) {
+			this.entries[index] = new Entry(original, merged);
+		}
+	}
+
+	public enum ShapeType {
+		COLLISION,
+		VISUAL,
+		INTERACTION,
+		BLOCK_SUPPORT,
+		OCCLUSION
+	}
+
+	private record Entry(VoxelShape original, VoxelShape merged) {
+	}
+}
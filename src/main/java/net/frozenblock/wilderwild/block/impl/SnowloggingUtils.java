@@ -44,8 +44,7 @@ public class SnowloggingUtils {
 
 	public static boolean supportsSnowlogging(@Nullable BlockState state) {
 		if (!WWBlockConfig.SNOWLOGGING) return false;
-		//noinspection ConstantValue
-		return state != null && state.getValues() != null && state.hasProperty(SNOW_LAYERS);
+		return state instanceof SnowloggableStateInterface snowloggableState && snowloggableState.wilderWild$getSnowLayers() >= 0;
 	}
 
 	public static boolean canSnowlog(@Nullable BlockState state) {
@@ -54,16 +53,29 @@ public class SnowloggingUtils {
 	}
 
 	public static int getSnowLayers(@NotNull BlockState state) {
+		if (state instanceof SnowloggableStateInterface snowloggableState) {
+			int snowLayers = snowloggableState.wilderWild$getSnowLayers();
+			if (snowLayers >= 0) return snowLayers;
+		}
 		return state.getValue(SNOW_LAYERS);
 	}
 
 	public static boolean isSnowlogged(@Nullable BlockState state) {
-		return state != null && supportsSnowlogging(state) && getSnowLayers(state) > 0;
+		if (!WWBlockConfig.SNOWLOGGING) return false;
+		return state instanceof SnowloggableStateInterface snowloggableState && snowloggableState.wilderWild$getSnowLayers() > 0;
 	}
 
 	@NotNull
 	public static BlockState getSnowEquivalent(BlockState state) {
-		return Blocks.SNOW.defaultBlockState().setValue(BlockStateProperties.LAYERS, Math.max(1, getSnowLayers(state)));
+		return getSnowState(getSnowLayers(state));
+	}
+
+	/**
+	 * @return the Snow block state with the given amount of layers, with a minimum of one layer.
+	 */
+	@NotNull
+	public static BlockState getSnowState(int layers) {
+		return SnowStates.BY_LAYERS[layers];
 	}
 
 	@Nullable
@@ -131,4 +143,19 @@ public class SnowloggingUtils {
 		return false;
     }
 
+	/**
+	 * Holds every Snow block state indexed by layer count, where zero layers maps to one layer.
+	 * <p>
+	 * The holder is only initialized on first use, once {@link Blocks#SNOW} has been registered.
+	 */
+	private static final class SnowStates {
+		private static final BlockState[] BY_LAYERS = new BlockState[MAX_LAYERS + 1];
+
+		static {
+			for (int layers = 0; layers <= MAX_LAYERS; layers++) {
+				BY_LAYERS[layers] = Blocks.SNOW.defaultBlockState().setValue(BlockStateProperties.LAYERS, Math.max(1, layers));
+			}
+		}
+	}
+
 }
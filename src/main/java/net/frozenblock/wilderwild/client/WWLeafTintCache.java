@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.client;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.List;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.color.block.BlockColor;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.BiomeColors;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches the tint of leaves particles per leaves block and block column.
+ * <p>
+ * Biome blending reaches into neighboring chunks, so a chunk loading or unloading invalidates the columns of the chunks around it as well.
+ * The whole cache is cleared when the level or the biome blend radius changes.
+ */
+@Environment(EnvType.CLIENT)
+public final class WWLeafTintCache {
+	private static final Long2ObjectOpenHashMap<Reference2ObjectOpenHashMap<Block, ColumnTints>> CHUNKS = new Long2ObjectOpenHashMap<>();
+	private static ClientLevel cachedLevel;
+	private static int cachedBlendRadius = -1;
+	private static int lookups;
+	private static int computed;
+	private static int lastLookups;
+	private static int lastComputed;
+
+	private WWLeafTintCache() {
+		throw new UnsupportedOperationException("WWLeafTintCache contains only static declarations.");
+	}
+
+	/**
+	 * Clears the cache if the level or biome blend radius has changed, and rolls over the lookup counters shown in the debug screen.
+	 * <p>
+	 * Called at the start of every client tick.
+	 */
+	public static void tick(@NotNull Minecraft client) {
+		int blendRadius = client.options.biomeBlendRadius().get();
+		if (client.level != cachedLevel || blendRadius != cachedBlendRadius) {
+			CHUNKS.clear();
+			cachedLevel = client.level;
+			cachedBlendRadius = blendRadius;
+		}
+		lastLookups = lookups;
+		lastComputed = computed;
+		lookups = 0;
+		computed = 0;
+	}
+
+	public static void onChunkChanged(@NotNull ClientLevel level, @NotNull LevelChunk chunk) {
+		if (level != cachedLevel) return;
+		ChunkPos chunkPos = chunk.getPos();
+		for (int x = -1; x <= 1; x++) {
+			for (int z = -1; z <= 1; z++) {
+				CHUNKS.remove(ChunkPos.asLong(chunkPos.x + x, chunkPos.z + z));
+			}
+		}
+	}
+
+	/**
+	 * Returns the color the given leaves block is tinted with at the given position, or the default foliage tint if its {@link BlockColor} fails.
+	 */
+	public static int getTint(@NotNull ClientLevel level, @NotNull Block leavesBlock, @NotNull BlockColor blockColor, @NotNull BlockPos pos) {
+		lookups += 1;
+		if (level != cachedLevel) return computeTint(level, leavesBlock, blockColor, pos);
+
+		ColumnTints columnTints = CHUNKS.computeIfAbsent(ChunkPos.asLong(pos), chunk -> new Reference2ObjectOpenHashMap<>())
+			.computeIfAbsent(leavesBlock, block -> new ColumnTints());
+		int column = ((pos.getZ() & 15) << 4) | (pos.getX() & 15);
+		if (!columnTints.cached[column]) {
+			columnTints.tints[column] = computeTint(level, leavesBlock, blockColor, pos);
+			columnTints.cached[column] = true;
+		}
+		return columnTints.tints[column];
+	}
+
+	private static int computeTint(@NotNull ClientLevel level, @NotNull Block leavesBlock, @NotNull BlockColor blockColor, @NotNull BlockPos pos) {
+		computed += 1;
+		try {
+			return blockColor.getColor(leavesBlock.defaultBlockState(), level, pos, 0);
+		} catch (Exception ignored) {
+			return level.getBlockTint(pos, BiomeColors.FOLIAGE_COLOR_RESOLVER);
+		}
+	}
+
+	public static void addDebugInfo(@NotNull List<String> lines) {
+		lines.add("Wilder Wild Leaf Tints: " + lastLookups + " lookups, " + lastComputed + " computed");
+	}
+
+	private static class ColumnTints {
+		private final int[] tints = new int[256];
+		private final boolean[] cached = new boolean[256];
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.client;
+
+import java.util.List;
+import java.util.Queue;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.ParticleStatus;
+import net.minecraft.client.particle.Particle;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Limits how many particles each of Wilder Wild's particle families can spawn per client tick.
+ * <p>
+ * Low priority particles are thinned out with distance from the camera, and are dropped entirely while the particle engine is close to full.
+ */
+@Environment(EnvType.CLIENT)
+public final class WWParticleBudget {
+	private static final double LOD_START_DISTANCE = 24D;
+	private static final double LOD_END_DISTANCE = 64D;
+	private static final int SATURATED_PARTICLE_COUNT = 12000;
+	private static final RandomSource RANDOM = RandomSource.create();
+	private static boolean saturated;
+	private static float quotaScale = 1F;
+	private static double cameraX;
+	private static double cameraY;
+	private static double cameraZ;
+
+	private WWParticleBudget() {
+		throw new UnsupportedOperationException("WWParticleBudget contains only static declarations.");
+	}
+
+	/**
+	 * Resets every family's quota, and refreshes the camera position and particle engine saturation.
+	 * <p>
+	 * Called at the start of every client tick.
+	 */
+	public static void tick(@NotNull Minecraft client) {
+		for (Family family : Family.values()) {
+			family.lastSpawned = family.spawned;
+			family.lastDropped = family.dropped;
+			family.spawned = 0;
+			family.dropped = 0;
+		}
+
+		ParticleStatus particleStatus = client.options.particles().get();
+		quotaScale = particleStatus == ParticleStatus.ALL ? 1F : particleStatus == ParticleStatus.DECREASED ? 0.5F : 0.25F;
+
+		Camera camera = client.gameRenderer.getMainCamera();
+		Vec3 cameraPos = camera.getPosition();
+		cameraX = cameraPos.x;
+		cameraY = cameraPos.y;
+		cameraZ = cameraPos.z;
+
+		int particleCount = 0;
+		for (Queue<Particle> particles : client.particleEngine.particles.values()) {
+			particleCount += particles.size();
+		}
+		saturated = particleCount >= SATURATED_PARTICLE_COUNT;
+	}
+
+	/**
+	 * Checks if a particle from the given family can be spawned at the given position, and counts it against the family's quota if so.
+	 *
+	 * @return whether the particle should be spawned.
+	 */
+	public static boolean tryConsume(@NotNull Family family, @NotNull Priority priority, double x, double y, double z) {
+		if (family.spawned >= family.quota * quotaScale) {
+			family.dropped += 1;
+			return false;
+		}
+		if (priority == Priority.LOW) {
+			if (saturated || family.spawned >= family.quota * quotaScale * 0.5F) {
+				family.dropped += 1;
+				return false;
+			}
+			double distance = Math.sqrt(Mth.lengthSquared(x - cameraX, y - cameraY, z - cameraZ));
+			if (distance > LOD_START_DISTANCE) {
+				double chance = 1D - ((distance - LOD_START_DISTANCE) / (LOD_END_DISTANCE - LOD_START_DISTANCE));
+				if (chance <= 0D || RANDOM.nextDouble() > chance) {
+					family.dropped += 1;
+					return false;
+				}
+			}
+		}
+		family.spawned += 1;
+		return true;
+	}
+
+	public static void addDebugInfo(@NotNull List<String> lines) {
+		StringBuilder builder = new StringBuilder("Wilder Wild Particles:");
+		for (Family family : Family.values()) {
+			builder.append(' ').append(family.name).append(' ').append(family.lastSpawned).append('/').append(family.lastDropped);
+		}
+		lines.add(builder.append(saturated ? " (saturated)" : "").toString());
+	}
+
+	public enum Priority {
+		LOW,
+		HIGH
+	}
+
+	public enum Family {
+		GEYSER("geyser", 256),
+		LEAVES("leaves", 128),
+		MESOGLEA("mesoglea", 48);
+
+		private final String name;
+		private final int quota;
+		private int spawned;
+		private int dropped;
+		private int lastSpawned;
+		private int lastDropped;
+
+		Family(String name, int quota) {
+			this.name = name;
+			this.quota = quota;
+		}
+	}
+}
@@ -22,6 +22,8 @@ import com.mojang.blaze3d.vertex.PoseStack;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.block.api.entity.BillboardBlockEntityRenderer;
+import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.block.HangingTendrilBlock;
 import net.frozenblock.wilderwild.block.entity.HangingTendrilBlockEntity;
 import net.frozenblock.wilderwild.client.WWModelLayers;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
@@ -30,15 +32,36 @@ import net.minecraft.client.model.geom.builders.LayerDefinition;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.blockentity.BlockEntityRendererProvider.Context;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.SculkSensorBlock;
+import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
 public class HangingTendrilRenderer<T extends HangingTendrilBlockEntity> extends BillboardBlockEntityRenderer<T> {
+	private static final ResourceLocation[] MILK_TEXTURES = createTextures("milk", HangingTendrilBlockEntity.MILK_FRAMES);
+	private static final ResourceLocation[] ACTIVE_TEXTURES = createTextures("active", HangingTendrilBlockEntity.ACTIVE_FRAMES);
+	private static final ResourceLocation[] TWITCHING_TEXTURES = createTextures("twitch", HangingTendrilBlockEntity.TWITCHING_FRAMES);
+	private static final ResourceLocation[] INACTIVE_TEXTURES = createTextures("inactive", HangingTendrilBlockEntity.INACTIVE_FRAMES);
 
 	public HangingTendrilRenderer(@NotNull Context ctx) {
 		super(ctx);
 	}
 
+	@NotNull
+	private static ResourceLocation[] createTextures(@NotNull String name, int frames) {
+		ResourceLocation[] textures = new ResourceLocation[frames];
+		for (int i = 0; i < frames; i++) {
+			textures[i] = WWConstants.id("textures/entity/hanging_tendril/" + name + (i + 1) + ".png");
+		}
+		return textures;
+	}
+
+	@NotNull
+	private static ResourceLocation getFrame(@NotNull ResourceLocation[] textures, long time, int animSpeed) {
+		return textures[(int) ((time / animSpeed) % textures.length)];
+	}
+
 	@NotNull
 	public static LayerDefinition getTexturedModelData() {
 		return BillboardBlockEntityRenderer.getTexturedModelData();
@@ -54,7 +77,17 @@ public class HangingTendrilRenderer<T extends HangingTendrilBlockEntity> extends
 	@Override
 	@NotNull
 	public ResourceLocation getTexture(@NotNull T entity) {
-		return entity.texture;
+		Level level = entity.getLevel();
+		long time = level != null ? level.getGameTime() : 0L;
+		BlockState state = entity.getBlockState();
+		if (state.getValue(HangingTendrilBlock.WRINGING_OUT)) {
+			return getFrame(MILK_TEXTURES, time, HangingTendrilBlockEntity.MILK_ANIM_SPEED);
+		} else if (!SculkSensorBlock.canActivate(state)) {
+			return getFrame(ACTIVE_TEXTURES, time, HangingTendrilBlockEntity.ACTIVE_ANIM_SPEED);
+		} else if (state.getValue(HangingTendrilBlock.TWITCHING)) {
+			return getFrame(TWITCHING_TEXTURES, time, HangingTendrilBlockEntity.TWITCHING_ANIM_SPEED);
+		}
+		return getFrame(INACTIVE_TEXTURES, time, HangingTendrilBlockEntity.INACTIVE_ANIM_SPEED);
 	}
 
 	@Override
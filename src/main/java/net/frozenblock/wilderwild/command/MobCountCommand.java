@@ -0,0 +1,71 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.command;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.frozenblock.wilderwild.entity.Crab;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.impl.WWMobCounter;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+public final class MobCountCommand {
+	public static void register(@NotNull CommandDispatcher<CommandSourceStack> dispatcher) {
+		dispatcher.register(Commands.literal("mobcounts")
+			.requires(source -> source.hasPermission(2))
+			.executes(context -> checkMobCounts(context.getSource()))
+		);
+	}
+
+	private static int checkMobCounts(@NotNull CommandSourceStack source) {
+		ServerLevel level = source.getLevel();
+		WWMobCounter counter = WWMobCounter.get(level);
+		int crabs = 0;
+		int normalJellyfish = 0;
+		int pearlescentJellyfish = 0;
+		for (Entity entity : level.getAllEntities()) {
+			if (entity instanceof Crab) {
+				crabs += 1;
+			} else if (entity instanceof Jellyfish jellyfish) {
+				if (jellyfish.getVariant().pearlescent()) {
+					pearlescentJellyfish += 1;
+				} else {
+					normalJellyfish += 1;
+				}
+			}
+		}
+
+		Component message = Component.translatable(
+			"commands.mobcounts.counts",
+			counter.getCrabs(), crabs,
+			counter.getJellyfish(false), normalJellyfish,
+			counter.getJellyfish(true), pearlescentJellyfish
+		);
+		if (counter.getCrabs() == crabs && counter.getJellyfish(false) == normalJellyfish && counter.getJellyfish(true) == pearlescentJellyfish) {
+			source.sendSuccess(() -> Component.translatable("commands.mobcounts.success", message), false);
+			return 1;
+		}
+		source.sendFailure(Component.translatable("commands.mobcounts.mismatch", message));
+		return 0;
+	}
+}
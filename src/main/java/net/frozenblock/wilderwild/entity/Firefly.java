@@ -19,12 +19,13 @@
 package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import net.frozenblock.lib.math.api.AdvancedMath;
-import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.firefly.FireflyAi;
 import net.frozenblock.wilderwild.entity.variant.FireflyColor;
@@ -33,6 +34,7 @@ import net.frozenblock.wilderwild.registry.WWItems;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.registry.WilderWildRegistries;
 import net.frozenblock.wilderwild.tag.WWBiomeTags;
+import net.frozenblock.wilderwild.wind.WWWindCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.component.DataComponents;
@@ -425,9 +427,13 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 		}
 
 		if (this.level() instanceof ServerLevel serverLevel) {
-			Vec3 wind = WindManager.getWindManager(serverLevel).getWindMovement(this.position(), 1D, 100D, 100D).scale(0.01D);
-			wind = wind.subtract(0D, wind.y * 0.7D, 0D);
-			this.setDeltaMovement(this.getDeltaMovement().add(wind.scale(0.02D)));
+			WWWindCache windCache = WWWindCache.get(serverLevel);
+			windCache.sample(serverLevel, this.getX(), this.getY(), this.getZ(), 1D, 100D, 100D);
+			this.setDeltaMovement(this.getDeltaMovement().add(
+				windCache.windX * 0.01D * 0.02D,
+				windCache.windY * 0.01D * 0.3D * 0.02D,
+				windCache.windZ * 0.01D * 0.02D
+			));
 		}
 	}
 
@@ -582,6 +588,9 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 	public static class FireflyBiomeColorRegistry {
 		public static final ArrayList<ResourceLocation> BIOMES = new ArrayList<>();
 		public static final ArrayList<FireflyColor> COLORS = new ArrayList<>();
+		private static final FireflyColor[] NO_COLORS = new FireflyColor[0];
+		private static volatile Map<ResourceLocation, FireflyColor[]> colorsByBiome = Map.of();
+		private static volatile int compiledSize = -1;
 
 		public static void addBiomeColor(@NotNull ResourceLocation biome, @NotNull FireflyColor color) {
 			BIOMES.add(biome);
@@ -592,19 +601,51 @@ public class Firefly extends PathfinderMob implements FlyingAnimal {
 			addBiomeColor(biome.location(), color);
 		}
 
+		/**
+		 * Groups every registered color by biome, so lookups don't need to scan every entry.
+		 * <p>
+		 * Runs again whenever entries have been added since the last lookup.
+		 */
+		@NotNull
+		private static Map<ResourceLocation, FireflyColor[]> getColorsByBiome() {
+			if (BIOMES.size() != compiledSize) {
+				compile();
+			}
+			return colorsByBiome;
+		}
+
+		private static synchronized void compile() {
+			int size = BIOMES.size();
+			if (size == compiledSize) return;
+
+			Map<ResourceLocation, List<FireflyColor>> colorLists = new Object2ObjectOpenHashMap<>();
+			for (int i = 0; i < size; ++i) {
+				colorLists.computeIfAbsent(BIOMES.get(i), biome -> new ArrayList<>()).add(COLORS.get(i));
+			}
+			Map<ResourceLocation, FireflyColor[]> compiled = new Object2ObjectOpenHashMap<>();
+			colorLists.forEach((biome, colors) -> compiled.put(biome, colors.toArray(NO_COLORS)));
+			colorsByBiome = compiled;
+			compiledSize = size;
+		}
+
 		@Nullable
 		public static FireflyColor getBiomeColor(@NotNull Holder<Biome> biomeEntry) {
-			ArrayList<FireflyColor> colors = new ArrayList<>();
-			for (int i = 0; i < BIOMES.size(); ++i) {
-				ResourceLocation biomeID = BIOMES.get(i);
-				if (biomeEntry.is(biomeID)) {
-					colors.add(COLORS.get(i));
+			Map<ResourceLocation, FireflyColor[]> colorsByBiome = getColorsByBiome();
+			FireflyColor[] colors = NO_COLORS;
+			if (biomeEntry instanceof Holder.Reference<Biome> reference) {
+				colors = colorsByBiome.getOrDefault(reference.key().location(), NO_COLORS);
+			} else {
+				for (Map.Entry<ResourceLocation, FireflyColor[]> entry : colorsByBiome.entrySet()) {
+					if (biomeEntry.is(entry.getKey())) {
+						colors = entry.getValue();
+						break;
+					}
 				}
 			}
-			if (colors.isEmpty()) {
+			if (colors.length == 0) {
 				return null;
 			}
-			return colors.get(AdvancedMath.random().nextInt(colors.size()));
+			return colors[AdvancedMath.random().nextInt(colors.length)];
 		}
 	}
 }
@@ -20,18 +20,15 @@ package net.frozenblock.wilderwild.entity;
 
 import com.mojang.serialization.Dynamic;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
-import net.frozenblock.lib.entity.api.EntityUtils;
 import net.frozenblock.lib.entity.api.NoFlopAbstractFish;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishAi;
 import net.frozenblock.wilderwild.entity.ai.jellyfish.JellyfishTemptGoal;
+import net.frozenblock.wilderwild.entity.impl.WWMobCounter;
 import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
@@ -127,7 +124,6 @@ public class Jellyfish extends NoFlopAbstractFish {
 	private static final EntityDataAccessor<String> VARIANT = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.STRING);
 	private static final EntityDataAccessor<Boolean> CAN_REPRODUCE = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
 	private static final EntityDataAccessor<Boolean> IS_BABY = SynchedEntityData.defineId(Jellyfish.class, EntityDataSerializers.BOOLEAN);
-	private static final Map<ServerLevelAccessor, Integer> NON_PEARLESCENT_JELLYFISH_PER_LEVEL = new HashMap<>();
 	public final TargetingConditions targetingConditions = TargetingConditions.forNonCombat().ignoreInvisibilityTesting().ignoreLineOfSight().selector(this::canTargetEntity);
 	public float xBodyRot;
 	public float xRot1;
@@ -146,6 +142,10 @@ public class Jellyfish extends NoFlopAbstractFish {
 	public int reproductionCooldown;
 	private int forcedAge;
 	private int forcedAgeTimer;
+	@Nullable
+	private WWMobCounter mobCounter;
+	@Nullable
+	private JellyfishVariant countedVariant;
 
 	public Jellyfish(@NotNull EntityType<? extends Jellyfish> entityType, @NotNull Level level) {
 		super(entityType, level);
@@ -153,22 +153,7 @@ public class Jellyfish extends NoFlopAbstractFish {
 	}
 
 	public static int getJellyfishPerLevel(@NotNull ServerLevel level, boolean pearlescent) {
-		AtomicInteger count = new AtomicInteger();
-		if (!NON_PEARLESCENT_JELLYFISH_PER_LEVEL.containsKey(level)) {
-			EntityUtils.getEntitiesPerLevel(level).forEach(entity -> {
-				if (entity instanceof Jellyfish jellyfish && (pearlescent ? jellyfish.getVariant().pearlescent() : jellyfish.getVariant().isNormal())) {
-					count.addAndGet(1);
-				}
-			});
-			NON_PEARLESCENT_JELLYFISH_PER_LEVEL.put(level, count.get());
-		} else {
-			count.set(NON_PEARLESCENT_JELLYFISH_PER_LEVEL.get(level));
-		}
-		return count.get();
-	}
-
-	public static void clearLevelToNonPearlescentCount() {
-		NON_PEARLESCENT_JELLYFISH_PER_LEVEL.clear();
+		return WWMobCounter.get(level).getJellyfish(pearlescent);
 	}
 
 	public static boolean checkJellyfishSpawnRules(
@@ -672,6 +657,26 @@ public class Jellyfish extends NoFlopAbstractFish {
 
 	public void setVariant(@NotNull JellyfishVariant variant) {
 		this.entityData.set(VARIANT, variant.key().toString());
+		if (this.mobCounter != null && this.countedVariant != null) {
+			this.mobCounter.addJellyfish(this.countedVariant, -1);
+			this.mobCounter.addJellyfish(variant, 1);
+			this.countedVariant = variant;
+		}
+	}
+
+	public void startCounting(@NotNull WWMobCounter mobCounter) {
+		this.stopCounting(mobCounter);
+		this.mobCounter = mobCounter;
+		this.countedVariant = this.getVariant();
+		mobCounter.addJellyfish(this.countedVariant, 1);
+	}
+
+	public void stopCounting(@NotNull WWMobCounter mobCounter) {
+		if (this.countedVariant != null) {
+			mobCounter.addJellyfish(this.countedVariant, -1);
+		}
+		this.mobCounter = null;
+		this.countedVariant = null;
 	}
 
 	public boolean canReproduce() {
@@ -30,6 +30,7 @@ import net.frozenblock.wilderwild.entity.ai.ostrich.OstrichAi;
 import net.frozenblock.wilderwild.entity.ai.ostrich.OstrichBodyRotationControl;
 import net.frozenblock.wilderwild.entity.ai.ostrich.OstrichLookControl;
 import net.frozenblock.wilderwild.entity.ai.ostrich.OstrichMoveControl;
+import net.frozenblock.wilderwild.entity.impl.CachedEntityReference;
 import net.frozenblock.wilderwild.registry.WWDamageTypes;
 import net.frozenblock.wilderwild.registry.WWEntityTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
@@ -127,8 +128,7 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 	private float straightProgress;
 	private float prevBeakAnimProgress;
 	private float beakAnimProgress;
-	@Nullable
-	private UUID lastAttackCommander;
+	private final CachedEntityReference lastAttackCommander = new CachedEntityReference();
 	@Nullable
 	private Vec3 prevBeakPosition;
 	@Nullable
@@ -388,36 +388,20 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 
 	@Nullable
 	public Entity getLastAttackCommander() {
-		Entity commander = null;
-		if (this.lastAttackCommander != null && this.level() instanceof ServerLevel serverLevel) {
-			if (this.commanderWasPlayer) {
-				for (Player player : serverLevel.players()) {
-					if (player.getUUID().equals(this.lastAttackCommander)) {
-						commander = player;
-						break;
-					}
-				}
-			} else {
-				for (Entity entity : serverLevel.entityManager.getEntityGetter().getAll()) {
-					if (entity.getUUID().equals(this.lastAttackCommander)) {
-						commander = entity;
-						break;
-					}
-				}
-			}
-
+		if (this.level() instanceof ServerLevel serverLevel) {
+			return this.lastAttackCommander.resolve(serverLevel);
 		}
-		return commander;
+		return null;
 	}
 
 	public void setLastAttackCommander(@Nullable Entity entity) {
 		if (entity != null) {
 			this.attackHasCommander = true;
-			this.lastAttackCommander = entity.getUUID();
+			this.lastAttackCommander.set(entity);
 			this.commanderWasPlayer = entity instanceof Player;
 		} else {
 			this.attackHasCommander = false;
-			this.lastAttackCommander = null;
+			this.lastAttackCommander.set(null);
 			this.commanderWasPlayer = false;
 		}
 	}
@@ -1037,8 +1021,9 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 		compound.putBoolean("IsAttacking", this.isAttacking());
 		compound.putInt("StuckTicks", this.getStuckTicks());
 		compound.putFloat("BeakAnimProgress", this.beakAnimProgress);
-		if (this.lastAttackCommander != null) {
-			compound.putUUID("LastAttackCommander", this.lastAttackCommander);
+		UUID lastAttackCommander = this.lastAttackCommander.getUUID();
+		if (lastAttackCommander != null) {
+			compound.putUUID("LastAttackCommander", lastAttackCommander);
 		}
 		compound.putBoolean("AttackHasCommander", this.attackHasCommander);
 		compound.putBoolean("CommanderWasPlayer", this.commanderWasPlayer);
@@ -1054,7 +1039,7 @@ public class Ostrich extends AbstractHorse implements PlayerRideableJumping, Sad
 		this.setStuckTicks(compound.getInt("StuckTicks"));
 		this.beakAnimProgress = compound.getFloat("BeakAnimProgress");
 		if (compound.contains("LastAttackCommander")) {
-			this.lastAttackCommander = compound.getUUID("LastAttackCommander");
+			this.lastAttackCommander.setUUID(compound.getUUID("LastAttackCommander"));
 		}
 		this.attackHasCommander = compound.getBoolean("AttackHasCommander");
 		this.commanderWasPlayer = compound.getBoolean("CommanderWasPlayer");
@@ -21,7 +21,6 @@ package net.frozenblock.wilderwild.entity;
 import java.util.List;
 import net.frozenblock.lib.entity.impl.EntityStepOnBlockInterface;
 import net.frozenblock.lib.tag.api.TagUtils;
-import net.frozenblock.lib.wind.api.WindManager;
 import net.frozenblock.wilderwild.block.MesogleaBlock;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.registry.WWBlocks;
@@ -31,6 +30,7 @@ import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.frozenblock.wilderwild.tag.WWEntityTags;
 import net.frozenblock.wilderwild.tag.WWItemTags;
+import net.frozenblock.wilderwild.wind.WWWindCache;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.core.particles.BlockParticleOption;
@@ -277,10 +277,11 @@ public class Tumbleweed extends Mob implements EntityStepOnBlockInterface {
 	private void moveWithWind(@NotNull ServerLevel serverLevel, double brightness, @NotNull Vec3 deltaPos) {
 		if (!(this.isTouchingStoppingBlock || this.isTouchingStickingBlock)) {
 			Vec3 deltaMovement = this.getDeltaMovement();
-			WindManager windManager = WindManager.getWindManager(serverLevel);
-			Vec3 windVec = windManager.getWindMovement(this.position(), WIND_MULTIPLIER, WIND_CLAMP).scale(this.wasTouchingWater ? 0.16777216D : 1D);
-			double multiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667D) * (this.wasTouchingWater ? 0.16777216D : 1D);
-			deltaMovement = deltaMovement.add((windVec.x * 0.2D), 0D, (windVec.z * 0.2D));
+			WWWindCache windCache = WWWindCache.get(serverLevel);
+			windCache.sample(serverLevel, this.getX(), this.getY(), this.getZ(), WIND_MULTIPLIER, WIND_CLAMP);
+			double waterMultiplier = this.wasTouchingWater ? 0.16777216D : 1D;
+			double multiplier = (Math.max((brightness - (Math.max(15 - brightness, 0))), 0) * 0.0667D) * waterMultiplier;
+			deltaMovement = deltaMovement.add((windCache.windX * waterMultiplier * 0.2D), 0D, (windCache.windZ * waterMultiplier * 0.2D));
 			deltaMovement = new Vec3(deltaMovement.x, deltaMovement.y < 0 ? deltaMovement.y * 0.88D : deltaMovement.y, deltaMovement.z);
 			if (deltaPos.y <= 0D && this.onGround()) {
 				deltaMovement = deltaMovement.add(0D, Math.min(0.65D, ((deltaPos.horizontalDistance() * 1.2D))) * multiplier, 0D);
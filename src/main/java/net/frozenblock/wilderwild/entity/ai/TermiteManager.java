@@ -24,6 +24,7 @@ import com.mojang.serialization.Dynamic;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -31,16 +32,14 @@ import java.util.Optional;
 import net.frozenblock.wilderwild.WWConstants;
 import net.frozenblock.wilderwild.block.HollowedLogBlock;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
 import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
 import net.frozenblock.wilderwild.registry.WWBlocks;
-import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.particles.BlockParticleOption;
-import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.NbtOps;
 import net.minecraft.nbt.Tag;
@@ -71,7 +70,20 @@ public class TermiteManager {
 	public static final int PARTICLE_COUNT_WHILE_EATING = 4;
 	public static final int PARTICLE_COUNT = 6;
 	public static final float BLOCK_SOUND_VOLUME = 0.6F;
-	private final ArrayList<Termite> termites = new ArrayList<>();
+	private static final Direction[] DIRECTIONS = Direction.values();
+	public static final int TERMITE_RELEASE_COUNTDOWN = 200;
+	public static final int TERMITE_RELEASE_COUNTDOWN_NATURAL = 320;
+	// Termites are stored as parallel arrays rather than as objects to keep per-tick work allocation-free.
+	private long[] moundPositions = new long[TERMITE_COUNT];
+	private long[] positions = new long[TERMITE_COUNT];
+	private int[] blockDestroyPowers = new int[TERMITE_COUNT];
+	private int[] idleTicks = new int[TERMITE_COUNT];
+	private int[] updateTicks = new int[TERMITE_COUNT];
+	private boolean[] eating = new boolean[TERMITE_COUNT];
+	private int[] ids = new int[TERMITE_COUNT];
+	private int size;
+	private final BlockPos.MutableBlockPos mutablePos = new BlockPos.MutableBlockPos();
+	private final BlockPos.MutableBlockPos neighborPos = new BlockPos.MutableBlockPos();
 	public int ticksToNextTermite;
 	public int highestID;
 
@@ -85,12 +97,14 @@ public class TermiteManager {
 	}
 
 	public static boolean areTermitesSafe(@NotNull Level level, @NotNull BlockPos pos) {
-		BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-		for (Direction direction : Direction.values()) {
-			if (!isPosSafeForTermites(level, mutableBlockPos.move(direction))) {
+		return areTermitesSafe(level, pos, new BlockPos.MutableBlockPos());
+	}
+
+	public static boolean areTermitesSafe(@NotNull Level level, @NotNull BlockPos pos, @NotNull BlockPos.MutableBlockPos mutableBlockPos) {
+		for (Direction direction : DIRECTIONS) {
+			if (!isPosSafeForTermites(level, mutableBlockPos.setWithOffset(pos, direction))) {
 				return false;
 			}
-			mutableBlockPos.move(direction, -1);
 		}
 		return true;
 	}
@@ -104,79 +118,238 @@ public class TermiteManager {
 	}
 
 	public void addTermite(@NotNull BlockPos pos) {
-		Termite termite = new Termite(pos, pos, 0, 0, 0, false, this.highestID += 1);
-		this.termites.add(termite);
+		long packedPos = pos.asLong();
+		this.addTermite(packedPos, packedPos, 0, 0, 0, false, this.highestID += 1);
 	}
 
-	public void tick(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn) {
+	private void addTermite(long mound, long pos, int blockDestroyPower, int idleTicks, int update, boolean eating, int id) {
+		if (this.size == this.positions.length) {
+			int capacity = this.size * 2;
+			this.moundPositions = Arrays.copyOf(this.moundPositions, capacity);
+			this.positions = Arrays.copyOf(this.positions, capacity);
+			this.blockDestroyPowers = Arrays.copyOf(this.blockDestroyPowers, capacity);
+			this.idleTicks = Arrays.copyOf(this.idleTicks, capacity);
+			this.updateTicks = Arrays.copyOf(this.updateTicks, capacity);
+			this.eating = Arrays.copyOf(this.eating, capacity);
+			this.ids = Arrays.copyOf(this.ids, capacity);
+		}
+		int index = this.size++;
+		this.moundPositions[index] = mound;
+		this.positions[index] = pos;
+		this.blockDestroyPowers[index] = blockDestroyPower;
+		this.idleTicks[index] = idleTicks;
+		this.updateTicks[index] = update;
+		this.eating[index] = eating;
+		this.ids[index] = id;
+	}
+
+	private void removeTermite(int index) {
+		int moved = this.size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(this.moundPositions, index + 1, this.moundPositions, index, moved);
+			System.arraycopy(this.positions, index + 1, this.positions, index, moved);
+			System.arraycopy(this.blockDestroyPowers, index + 1, this.blockDestroyPowers, index, moved);
+			System.arraycopy(this.idleTicks, index + 1, this.idleTicks, index, moved);
+			System.arraycopy(this.updateTicks, index + 1, this.updateTicks, index, moved);
+			System.arraycopy(this.eating, index + 1, this.eating, index, moved);
+			System.arraycopy(this.ids, index + 1, this.ids, index, moved);
+		}
+		this.size -= 1;
+	}
+
+	public void tick(@NotNull Level level, @NotNull BlockPos pos, boolean natural, boolean awake, boolean canSpawn, @NotNull WWTermiteEffectsPacket.Builder effects) {
 		int maxTermites = maxTermites(natural, awake, canSpawn);
-		ArrayList<Termite> termitesToRemove = new ArrayList<>();
 		RandomSource random = level.getRandom();
-		for (Termite termite : this.termites) {
-			if (termite.tick(level, natural, random)) {
-				if (level instanceof ServerLevel serverLevel) {
-					BlockPos termitePos = termite.getPos();
-					serverLevel.sendParticles(
-						WWParticleTypes.TERMITE,
-						termitePos.getX() + 0.5D,
-						termitePos.getY() + 0.5D,
-						termitePos.getZ() + 0.5D,
-						termite.eating ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT,
-						0D,
-						0D,
-						0D,
-						0D
-					);
-				}
+		int index = 0;
+		while (index < this.size) {
+			if (this.tickTermite(index, level, natural, random, effects)) {
+				effects.addTermiteParticles(this.positions[index], this.eating[index] ? PARTICLE_COUNT_WHILE_EATING : PARTICLE_COUNT);
+				index += 1;
 			} else {
-				level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-				termitesToRemove.add(termite);
+				this.mutablePos.set(this.positions[index]);
+				effects.addSound(this.mutablePos, WWTermiteEffectsPacket.TermiteSound.MOUND_ENTER, 1F);
+				level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(this.mutablePos));
+				this.removeTermite(index);
+				level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
 			}
 		}
-		for (Termite termite : termitesToRemove) {
-			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
-			this.termites.remove(termite);
-			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
-		}
-		if (this.termites.size() < maxTermites) {
+		if (this.size < maxTermites) {
 			if (this.ticksToNextTermite > 0) {
 				--this.ticksToNextTermite;
 			} else {
 				this.addTermite(pos);
 				level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
-				level.playSound(null, pos, WWSounds.BLOCK_TERMITE_MOUND_EXIT, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+				effects.addSound(pos, WWTermiteEffectsPacket.TermiteSound.MOUND_EXIT, 1F);
 				this.ticksToNextTermite = natural ? TERMITE_RELEASE_COUNTDOWN_NATURAL : TERMITE_RELEASE_COUNTDOWN;
 			}
 		}
-		while (this.termites.size() > maxTermites) {
-			Termite termite = this.termites.get(random.nextInt(this.termites.size()));
-			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
-			level.gameEvent(null, GameEvent.TELEPORT, Vec3.atCenterOf(termite.pos));
-			this.termites.remove(termite);
+		while (this.size > maxTermites) {
+			int removedIndex = random.nextInt(this.size);
+			this.mutablePos.set(this.positions[removedIndex]);
+			effects.addSound(this.mutablePos, WWTermiteEffectsPacket.TermiteSound.MOUND_ENTER, 1F);
+			level.gameEvent(null, GameEvent.TELEPORT, Vec3.atCenterOf(this.mutablePos));
+			this.removeTermite(removedIndex);
 			level.gameEvent(null, GameEvent.BLOCK_CHANGE, Vec3.atCenterOf(pos));
 		}
-		termitesToRemove.clear();
 	}
-	public static final int TERMITE_RELEASE_COUNTDOWN = 200;
-	public static final int TERMITE_RELEASE_COUNTDOWN_NATURAL = 320;
+
+	private boolean tickTermite(int index, @NotNull Level level, boolean natural, RandomSource random, @NotNull WWTermiteEffectsPacket.Builder effects) {
+		boolean exit = false;
+		int idleTicks = ++this.idleTicks[index];
+		long mound = this.moundPositions[index];
+		BlockPos.MutableBlockPos termitePos = this.mutablePos.set(this.positions[index]);
+		if (idleTicks > (natural ? Termite.MAX_IDLE_TICKS_NATURAL : Termite.MAX_IDLE_TICKS) || Termite.isTooFar(natural, mound, termitePos)) {
+			return false;
+		}
+		if (!areTermitesSafe(level, termitePos, this.neighborPos)) {
+			return false;
+		}
+		if (Termite.canMove(level, termitePos)) {
+			BlockState blockState = level.getBlockState(termitePos);
+			Block block = blockState.getBlock();
+			boolean degradable = !natural ? Termite.DEGRADABLE_BLOCKS.containsKey(block) : Termite.NATURAL_DEGRADABLE_BLOCKS.containsKey(block);
+			boolean breakable = blockState.is(WWBlockTags.TERMITE_BREAKABLE);
+			boolean leaves = blockState.is(BlockTags.LEAVES);
+			if ((degradable || breakable) && Termite.isEdibleProperty(blockState)) {
+				this.eating[index] = true;
+				exit = true;
+				int additionalPower = breakable ? leaves ? Termite.DESTROY_POWER_LEAVES : Termite.DESTROY_POWER_BREAKABLE : Termite.DESTROY_POWER;
+				this.blockDestroyPowers[index] += additionalPower;
+				Termite.spawnGnawParticles(effects, blockState, termitePos, random);
+				if (this.blockDestroyPowers[index] > Termite.DESTROY_POWER_BEFORE_BLOCK_BREAKS) {
+					this.blockDestroyPowers[index] = 0;
+					this.idleTicks[index] = natural ? Math.max(0, idleTicks - (Termite.DESTROY_POWER_BEFORE_BLOCK_BREAKS / additionalPower)) : 0;
+					BlockPos eatenPos = termitePos.immutable();
+					if (breakable) {
+						level.destroyBlock(eatenPos, true);
+					} else {
+						level.addDestroyBlockEffect(eatenPos, blockState);
+						Block setBlock = !natural ? Termite.DEGRADABLE_BLOCKS.get(block) : Termite.NATURAL_DEGRADABLE_BLOCKS.get(block);
+						BlockState setState = setBlock.withPropertiesOf(blockState);
+						level.setBlockAndUpdate(eatenPos, setState);
+						if (setBlock instanceof HollowedLogBlock) {
+							boolean nether = new ItemStack(setBlock.asItem()).is(ItemTags.NON_FLAMMABLE_WOOD);
+							effects.addSound(
+								eatenPos,
+								nether ? WWTermiteEffectsPacket.TermiteSound.STEM_HOLLOWED : WWTermiteEffectsPacket.TermiteSound.LOG_HOLLOWED,
+								0.95F + (random.nextFloat() * 0.2F)
+							);
+						}
+					}
+					Termite.spawnEatParticles(effects, blockState, eatenPos, random);
+					effects.addSound(eatenPos, WWTermiteEffectsPacket.TermiteSound.GNAW_FINISH, 0.9F + (random.nextFloat() * 0.25F));
+				}
+			} else {
+				this.eating[index] = false;
+				this.blockDestroyPowers[index] = 0;
+				Direction direction = Direction.getRandom(random);
+				if (blockState.isAir()) {
+					direction = Direction.DOWN;
+				}
+				BlockPos offset = termitePos.relative(direction);
+				BlockState state = level.getBlockState(offset);
+				if (!isStateSafeForTermites(state)) {
+					return false;
+				}
+
+				if (this.updateTicks[index] > 0 && !blockState.isAir()) {
+					--this.updateTicks[index];
+					return true;
+				} else {
+					this.updateTicks[index] = Termite.UPDATE_DELAY_IN_TICKS;
+					BlockPos priority = Termite.degradableBreakablePos(level, termitePos, natural, random);
+					if (priority != null) {
+						this.positions[index] = priority.asLong();
+						exit = true;
+					} else {
+						BlockPos ledge = Termite.ledgePos(level, offset, natural);
+						BlockPos posUp = termitePos.above();
+						BlockState stateUp = level.getBlockState(posUp);
+						if (Termite.exposedToAir(level, offset, natural)
+							&& Termite.isBlockMovable(state, direction)
+							&& !(direction != Direction.DOWN && state.isAir() && (!closerThan(mound, termitePos, 1.5D)) && ledge == null)
+						) {
+							this.positions[index] = ledge != null ? ledge.asLong() : offset.asLong();
+							exit = true;
+						} else if (ledge != null && Termite.exposedToAir(level, ledge, natural)) {
+							this.positions[index] = ledge.asLong();
+							exit = true;
+						} else if (!stateUp.isAir() && Termite.isBlockMovable(stateUp, Direction.UP) && Termite.exposedToAir(level, posUp, natural)) {
+							this.positions[index] = posUp.asLong();
+							exit = true;
+						}
+					}
+				}
+			}
+		}
+		return exit || (Termite.exposedToAir(level, this.mutablePos.set(this.positions[index]), natural));
+	}
+
+	private static boolean closerThan(long mound, @NotNull BlockPos pos, double distance) {
+		double xDifference = BlockPos.getX(mound) - pos.getX();
+		double yDifference = BlockPos.getY(mound) - pos.getY();
+		double zDifference = BlockPos.getZ(mound) - pos.getZ();
+		return (xDifference * xDifference) + (yDifference * yDifference) + (zDifference * zDifference) < distance * distance;
+	}
 
 	public void clearTermites(@NotNull Level level) {
-		for (Termite termite : this.termites) {
-			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(termite.pos));
-			level.playSound(null, termite.pos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
+		for (int index = 0; index < this.size; index++) {
+			this.mutablePos.set(this.positions[index]);
+			level.gameEvent(null, GameEvent.ENTITY_DIE, Vec3.atCenterOf(this.mutablePos));
+			level.playSound(null, this.mutablePos, WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL, BLOCK_SOUND_VOLUME, 1F);
 		}
-		this.termites.clear();
+		this.size = 0;
 	}
 
-	public ArrayList<Termite> termites() {
-		return this.termites;
+	public int size() {
+		return this.size;
+	}
+
+	public long getTermitePos(int index) {
+		return this.positions[index];
+	}
+
+	public boolean isTermiteEating(int index) {
+		return this.eating[index];
+	}
+
+	public int getTermiteID(int index) {
+		return this.ids[index];
+	}
+
+	public int indexOfTermite(int id) {
+		for (int index = 0; index < this.size; index++) {
+			if (this.ids[index] == id) {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	@NotNull
+	private List<Termite> createTermites() {
+		List<Termite> termites = new ArrayList<>(this.size);
+		for (int index = 0; index < this.size; index++) {
+			termites.add(
+				new Termite(
+					BlockPos.of(this.moundPositions[index]),
+					BlockPos.of(this.positions[index]),
+					this.blockDestroyPowers[index],
+					this.idleTicks[index],
+					this.updateTicks[index],
+					this.eating[index],
+					this.ids[index]
+				)
+			);
+		}
+		return termites;
 	}
 
 	public void saveAdditional(@NotNull CompoundTag tag) {
 		tag.putInt("ticksToNextTermite", this.ticksToNextTermite);
 		tag.putInt("highestID", this.highestID);
 		Logger logger = WWConstants.LOGGER;
-		DataResult<Tag> var10000 = Termite.CODEC.listOf().encodeStart(NbtOps.INSTANCE, this.termites);
+		DataResult<Tag> var10000 = Termite.CODEC.listOf().encodeStart(NbtOps.INSTANCE, this.createTermites());
 		Objects.requireNonNull(logger);
 		var10000.resultOrPartial(logger::error).ifPresent((nbt) -> tag.put("termites", nbt));
 	}
@@ -185,14 +358,23 @@ public class TermiteManager {
 		this.ticksToNextTermite = tag.getInt("ticksToNextTermite");
 		this.highestID = tag.getInt("highestID");
 		if (tag.contains("termites", 9)) {
-			this.termites.clear();
+			this.size = 0;
 			DataResult<List<Termite>> var10000 = Termite.CODEC.listOf().parse(new Dynamic<>(NbtOps.INSTANCE, tag.getList("termites", 10)));
 			Logger logger = WWConstants.LOGGER;
 			Objects.requireNonNull(logger);
 			Optional<List<Termite>> list = var10000.resultOrPartial(logger::error);
 			if (list.isPresent()) {
-				List<Termite> termiteList = list.get();
-				this.termites.addAll(termiteList);
+				for (Termite termite : list.get()) {
+					this.addTermite(
+						termite.mound.asLong(),
+						termite.pos.asLong(),
+						termite.blockDestroyPower,
+						termite.idleTicks,
+						termite.update,
+						termite.eating,
+						termite.id
+					);
+				}
 			}
 		}
 	}
@@ -249,94 +431,6 @@ public class TermiteManager {
 			this.id = id;
 		}
 
-		public boolean tick(@NotNull Level level, boolean natural, RandomSource random) {
-			boolean exit = false;
-			++this.idleTicks;
-			if (this.idleTicks > (natural ? MAX_IDLE_TICKS_NATURAL : MAX_IDLE_TICKS) || isTooFar(natural, this.mound, this.pos)) {
-				return false;
-			}
-			if (!areTermitesSafe(level, this.pos)) {
-				return false;
-			}
-			if (canMove(level, this.pos)) {
-				BlockState blockState = level.getBlockState(this.pos);
-				Block block = blockState.getBlock();
-				boolean degradable = !natural ? DEGRADABLE_BLOCKS.containsKey(block) : NATURAL_DEGRADABLE_BLOCKS.containsKey(block);
-				boolean breakable = blockState.is(WWBlockTags.TERMITE_BREAKABLE);
-				boolean leaves = blockState.is(BlockTags.LEAVES);
-				if ((degradable || breakable) && isEdibleProperty(blockState)) {
-					this.eating = true;
-					exit = true;
-					int additionalPower = breakable ? leaves ? DESTROY_POWER_LEAVES : DESTROY_POWER_BREAKABLE : DESTROY_POWER;
-					this.blockDestroyPower += additionalPower;
-					spawnGnawParticles(level, blockState, this.pos, random);
-					if (this.blockDestroyPower > DESTROY_POWER_BEFORE_BLOCK_BREAKS) {
-						this.blockDestroyPower = 0;
-						this.idleTicks = natural ? Math.max(0, this.idleTicks - (DESTROY_POWER_BEFORE_BLOCK_BREAKS / additionalPower)) : 0;
-						if (breakable) {
-							level.destroyBlock(this.pos, true);
-						} else {
-							level.addDestroyBlockEffect(this.pos, blockState);
-							Block setBlock = !natural ? DEGRADABLE_BLOCKS.get(block) : NATURAL_DEGRADABLE_BLOCKS.get(block);
-							BlockState setState = setBlock.withPropertiesOf(blockState);
-							level.setBlockAndUpdate(this.pos, setState);
-							if (setBlock instanceof HollowedLogBlock) {
-								boolean nether = new ItemStack(setBlock.asItem()).is(ItemTags.NON_FLAMMABLE_WOOD);
-								level.playSound(null, pos, nether ? WWSounds.STEM_HOLLOWED : WWSounds.LOG_HOLLOWED, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.95F + (random.nextFloat() * 0.2F));
-							}
-						}
-						spawnEatParticles(level, blockState, this.pos, random);
-						level.playSound(null, pos, WWSounds.BLOCK_TERMITE_MOUND_TERMITE_GNAW_FINISH, SoundSource.BLOCKS, BLOCK_SOUND_VOLUME, 0.9F + (random.nextFloat() * 0.25F));
-					}
-				} else {
-					this.eating = false;
-					this.blockDestroyPower = 0;
-					Direction direction = Direction.getRandom(random);
-					if (blockState.isAir()) {
-						direction = Direction.DOWN;
-					}
-					BlockPos offset = this.pos.relative(direction);
-					BlockState state = level.getBlockState(offset);
-					if (!isStateSafeForTermites(state)) {
-						return false;
-					}
-
-					if (this.update > 0 && !blockState.isAir()) {
-						--this.update;
-						return true;
-					} else {
-						this.update = UPDATE_DELAY_IN_TICKS;
-						BlockPos priority = degradableBreakablePos(level, this.pos, natural, random);
-						if (priority != null) {
-							this.pos = priority;
-							exit = true;
-						} else {
-							BlockPos ledge = ledgePos(level, offset, natural);
-							BlockPos posUp = this.pos.above();
-							BlockState stateUp = level.getBlockState(posUp);
-							if (exposedToAir(level, offset, natural)
-								&& isBlockMovable(state, direction)
-								&& !(direction != Direction.DOWN && state.isAir() && (!this.mound.closerThan(this.pos, 1.5D)) && ledge == null)
-							) {
-								this.pos = offset;
-								if (ledge != null) {
-									this.pos = ledge;
-								}
-								exit = true;
-							} else if (ledge != null && exposedToAir(level, ledge, natural)) {
-								this.pos = ledge;
-								exit = true;
-							} else if (!stateUp.isAir() && isBlockMovable(stateUp, Direction.UP) && exposedToAir(level, posUp, natural)) {
-								this.pos = posUp;
-								exit = true;
-							}
-						}
-					}
-				}
-			}
-			return exit || (exposedToAir(level, this.pos, natural));
-		}
-
 		@Nullable
 		public static BlockPos ledgePos(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
@@ -388,7 +482,7 @@ public class TermiteManager {
 
 		public static boolean exposedToAir(@NotNull Level level, @NotNull BlockPos pos, boolean natural) {
 			BlockPos.MutableBlockPos mutableBlockPos = pos.mutable();
-			for (Direction direction : Direction.values()) {
+			for (Direction direction : DIRECTIONS) {
 				BlockState state = level.getBlockState(mutableBlockPos.move(direction));
 				if (state.isAir() || (!state.isRedstoneConductor(level, mutableBlockPos) && !state.is(WWBlockTags.BLOCKS_TERMITE)) || ((!natural && DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || (natural && NATURAL_DEGRADABLE_BLOCKS.containsKey(state.getBlock())) || state.is(WWBlockTags.TERMITE_BREAKABLE)) && isEdibleProperty(state)) {
 					return true;
@@ -418,39 +512,21 @@ public class TermiteManager {
 			return !mound.closerThan(pos, natural ? WWBlockConfig.get().termite.maxNaturalDistance : WWBlockConfig.get().termite.maxDistance);
 		}
 
-		public static void spawnGnawParticles(@NotNull Level level, @NotNull BlockState eatState, @NotNull BlockPos pos, RandomSource random) {
-			if (level instanceof ServerLevel serverLevel && random.nextInt(GNAW_PARTICLE_CHANCE) == 0) {
+		public static boolean isTooFar(boolean natural, long mound, @NotNull BlockPos pos) {
+			return !closerThan(mound, pos, natural ? WWBlockConfig.get().termite.maxNaturalDistance : WWBlockConfig.get().termite.maxDistance);
+		}
+
+		public static void spawnGnawParticles(@NotNull WWTermiteEffectsPacket.Builder effects, @NotNull BlockState eatState, @NotNull BlockPos pos, RandomSource random) {
+			if (random.nextInt(GNAW_PARTICLE_CHANCE) == 0) {
 				int count = random.nextInt(MIN_GNAW_PARTICLES, MAX_GNAW_PARTICLES);
 				if (count > 0) {
-					serverLevel.sendParticles(
-						new BlockParticleOption(ParticleTypes.BLOCK, eatState),
-						pos.getX() + 0.5D,
-						pos.getY() + 0.5D,
-						pos.getZ() + 0.5D,
-						count,
-						0.3F,
-						0.3F,
-						0.3F,
-						0.05D
-					);
+					effects.addBlockParticles(pos, eatState, count);
 				}
 			}
 		}
 
-		public static void spawnEatParticles(@NotNull Level level, @NotNull BlockState eatState, @NotNull BlockPos pos, RandomSource random) {
-			if (level instanceof ServerLevel serverLevel) {
-				serverLevel.sendParticles(
-					new BlockParticleOption(ParticleTypes.BLOCK, eatState),
-					pos.getX() + 0.5D,
-					pos.getY() + 0.5D,
-					pos.getZ() + 0.5D,
-					random.nextInt(MIN_EAT_PARTICLES, MAX_EAT_PARTICLES),
-					0.3F,
-					0.3F,
-					0.3F,
-					0.05D
-				);
-			}
+		public static void spawnEatParticles(@NotNull WWTermiteEffectsPacket.Builder effects, @NotNull BlockState eatState, @NotNull BlockPos pos, RandomSource random) {
+			effects.addBlockParticles(pos, eatState, random.nextInt(MIN_EAT_PARTICLES, MAX_EAT_PARTICLES));
 		}
 
 		@NotNull
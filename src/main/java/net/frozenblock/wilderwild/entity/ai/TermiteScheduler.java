@@ -0,0 +1,139 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.ai;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.frozenblock.wilderwild.block.entity.TermiteMoundBlockEntity;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
+import net.frozenblock.wilderwild.registry.WWBlockStateProperties;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Ticks every loaded Termite Mound in a level, grouped by chunk.
+ * <p>
+ * Mounds are batched per chunk so the ticking check only runs once per chunk rather than once per mound,
+ * and so all of a chunk's termite particles and sounds can be sent in a single {@link WWTermiteEffectsPacket}.
+ */
+public class TermiteScheduler {
+	private static final Map<ServerLevel, TermiteScheduler> SCHEDULERS = new WeakHashMap<>();
+	private final Long2ObjectOpenHashMap<ObjectArrayList<TermiteMoundBlockEntity>> moundsPerChunk = new Long2ObjectOpenHashMap<>();
+	private final ObjectArrayList<TermiteMoundBlockEntity> pendingMounds = new ObjectArrayList<>();
+	private final WWTermiteEffectsPacket.Builder effects = new WWTermiteEffectsPacket.Builder();
+
+	@NotNull
+	public static TermiteScheduler get(@NotNull ServerLevel level) {
+		return SCHEDULERS.computeIfAbsent(level, serverLevel -> new TermiteScheduler());
+	}
+
+	public static void tickLevel(@NotNull ServerLevel level) {
+		TermiteScheduler scheduler = SCHEDULERS.get(level);
+		if (scheduler != null) {
+			scheduler.tick(level);
+		}
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		SCHEDULERS.remove(level);
+	}
+
+	public static void clearSchedulers() {
+		SCHEDULERS.clear();
+	}
+
+	/**
+	 * Queues a mound to be ticked, starting on the next level tick.
+	 * <p>
+	 * Removed mounds are dropped automatically while ticking.
+	 */
+	public void addMound(@NotNull TermiteMoundBlockEntity mound) {
+		this.pendingMounds.add(mound);
+	}
+
+	private void flushPendingMounds() {
+		for (TermiteMoundBlockEntity mound : this.pendingMounds) {
+			if (!mound.isRemoved()) {
+				ObjectArrayList<TermiteMoundBlockEntity> mounds = this.moundsPerChunk.computeIfAbsent(
+					ChunkPos.asLong(mound.getBlockPos()),
+					chunkPos -> new ObjectArrayList<>()
+				);
+				if (!mounds.contains(mound)) {
+					mounds.add(mound);
+				}
+			}
+		}
+		this.pendingMounds.clear();
+	}
+
+	public void tick(@NotNull ServerLevel level) {
+		ProfilerFiller profiler = level.getProfiler();
+		profiler.push("termiteScheduler");
+		this.flushPendingMounds();
+		boolean runsNormally = level.tickRateManager().runsNormally();
+		ObjectIterator<Long2ObjectMap.Entry<ObjectArrayList<TermiteMoundBlockEntity>>> iterator = this.moundsPerChunk.long2ObjectEntrySet().fastIterator();
+		while (iterator.hasNext()) {
+			Long2ObjectMap.Entry<ObjectArrayList<TermiteMoundBlockEntity>> entry = iterator.next();
+			ObjectArrayList<TermiteMoundBlockEntity> mounds = entry.getValue();
+			mounds.removeIf(TermiteMoundBlockEntity::isRemoved);
+			if (mounds.isEmpty()) {
+				iterator.remove();
+			} else if (runsNormally && level.shouldTickBlocksAt(entry.getLongKey())) {
+				profiler.push("termiteChunk");
+				this.tickChunk(level, entry.getLongKey(), mounds, profiler);
+				profiler.pop();
+			}
+		}
+		profiler.pop();
+	}
+
+	private void tickChunk(@NotNull ServerLevel level, long chunkPos, @NotNull ObjectArrayList<TermiteMoundBlockEntity> mounds, @NotNull ProfilerFiller profiler) {
+		int termiteCount = 0;
+		for (int i = 0; i < mounds.size(); i++) {
+			TermiteMoundBlockEntity mound = mounds.get(i);
+			if (mound.isRemoved()) continue;
+			BlockPos pos = mound.getBlockPos();
+			BlockState state = level.getBlockState(pos);
+			if (!mound.getType().isValid(state)) continue;
+			mound.tickServer(
+				level,
+				pos,
+				state.getValue(WWBlockStateProperties.NATURAL),
+				state.getValue(WWBlockStateProperties.TERMITES_AWAKE),
+				state.getValue(WWBlockStateProperties.CAN_SPAWN_TERMITE),
+				this.effects
+			);
+			termiteCount += mound.termiteManager.size();
+		}
+		profiler.incrementCounter("termiteChunks");
+		profiler.incrementCounter("termiteMounds", mounds.size());
+		profiler.incrementCounter("termites", termiteCount);
+		if (!this.effects.isEmpty()) {
+			profiler.incrementCounter("termitePacketsSaved", this.effects.send(level, new ChunkPos(chunkPos)));
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import java.lang.ref.WeakReference;
+import java.util.UUID;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A reference to an entity stored by UUID, for entities that need to remember another entity across saves.
+ * <p>
+ * The resolved entity is cached weakly, and is only looked up again through the level's UUID index once it has been removed or changed levels.
+ */
+public final class CachedEntityReference {
+	@Nullable
+	private UUID uuid;
+	private WeakReference<Entity> cachedEntity = new WeakReference<>(null);
+
+	public void set(@Nullable Entity entity) {
+		this.uuid = entity != null ? entity.getUUID() : null;
+		this.cachedEntity = new WeakReference<>(entity);
+	}
+
+	public void setUUID(@Nullable UUID uuid) {
+		if (uuid == null || !uuid.equals(this.uuid)) {
+			this.uuid = uuid;
+			this.cachedEntity = new WeakReference<>(null);
+		}
+	}
+
+	@Nullable
+	public UUID getUUID() {
+		return this.uuid;
+	}
+
+	@Nullable
+	public Entity resolve(@NotNull ServerLevel level) {
+		if (this.uuid == null) return null;
+		Entity entity = this.cachedEntity.get();
+		if (entity != null && !entity.isRemoved() && entity.level() == level) return entity;
+
+		entity = level.getEntity(this.uuid);
+		this.cachedEntity = new WeakReference<>(entity);
+		return entity;
+	}
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.entity.impl;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.frozenblock.wilderwild.entity.Crab;
+import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.variant.JellyfishVariant;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Keeps count of the Crabs and Jellyfish loaded in each level, for their spawn rules.
+ * <p>
+ * Counts are updated as entities are loaded and unloaded, which includes dying and changing dimensions,
+ * and as loaded Jellyfish change variant, so spawn rules no longer need to scan every entity in the level.
+ */
+public class WWMobCounter {
+	private static final Map<ServerLevel, WWMobCounter> COUNTERS = new WeakHashMap<>();
+	private int crabs;
+	private int normalJellyfish;
+	private int pearlescentJellyfish;
+
+	@NotNull
+	public static WWMobCounter get(@NotNull ServerLevel level) {
+		return COUNTERS.computeIfAbsent(level, serverLevel -> new WWMobCounter());
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		COUNTERS.remove(level);
+	}
+
+	public static void clearCounters() {
+		COUNTERS.clear();
+	}
+
+	public static void onEntityLoad(@NotNull Entity entity, @NotNull ServerLevel level) {
+		if (entity instanceof Crab) {
+			get(level).crabs += 1;
+		} else if (entity instanceof Jellyfish jellyfish) {
+			jellyfish.startCounting(get(level));
+		}
+	}
+
+	public static void onEntityUnload(@NotNull Entity entity, @NotNull ServerLevel level) {
+		if (entity instanceof Crab) {
+			WWMobCounter counter = get(level);
+			counter.crabs = Math.max(0, counter.crabs - 1);
+		} else if (entity instanceof Jellyfish jellyfish) {
+			jellyfish.stopCounting(get(level));
+		}
+	}
+
+	public int getCrabs() {
+		return this.crabs;
+	}
+
+	public int getJellyfish(boolean pearlescent) {
+		return pearlescent ? this.pearlescentJellyfish : this.normalJellyfish;
+	}
+
+	public void addJellyfish(@NotNull JellyfishVariant variant, int amount) {
+		if (variant.pearlescent()) {
+			this.pearlescentJellyfish = Math.max(0, this.pearlescentJellyfish + amount);
+		} else {
+			this.normalJellyfish = Math.max(0, this.normalJellyfish + amount);
+		}
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.mixin.block.leaves;
+
+import net.frozenblock.wilderwild.block.impl.FallingLeafUtil;
+import net.frozenblock.wilderwild.block.impl.LeafLitterScheduler;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+@Mixin(LevelChunk.class)
+public class LevelChunkMixin {
+
+	@Shadow
+	@Final
+	Level level;
+
+	@Inject(method = "registerTickContainerInLevel", at = @At("TAIL"))
+	public void wilderWild$indexLeafLitter(ServerLevel level, CallbackInfo info) {
+		LeafLitterScheduler.get(level).addChunk(level, LevelChunk.class.cast(this));
+	}
+
+	@Inject(method = "unregisterTickContainerFromLevel", at = @At("TAIL"))
+	public void wilderWild$removeLeafLitter(ServerLevel level, CallbackInfo info) {
+		LeafLitterScheduler.get(level).removeChunk(LevelChunk.class.cast(this));
+	}
+
+	@Inject(method = "setBlockState", at = @At("RETURN"))
+	public void wilderWild$updateLeafLitter(BlockPos pos, BlockState state, boolean moved, CallbackInfoReturnable<BlockState> info) {
+		if (info.getReturnValue() != null && this.level instanceof ServerLevel serverLevel) {
+			LevelChunk chunk = LevelChunk.class.cast(this);
+			// Only leaves with Leaf Litter are indexed, and a change can only affect the changed block and the block above it.
+			if (FallingLeafUtil.dropsLeafLitter(state) || FallingLeafUtil.dropsLeafLitter(chunk.getBlockState(pos.above()))) {
+				LeafLitterScheduler.get(serverLevel).onBlockChanged(chunk, pos, state);
+			}
+		}
+	}
+
+}
@@ -23,7 +23,6 @@ import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import net.frozenblock.wilderwild.entity.impl.InMesogleaInterface;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.minecraft.core.BlockPos;
-import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.ClipContext;
 import net.minecraft.world.level.block.state.BlockState;
@@ -33,33 +32,11 @@ import net.minecraft.world.phys.shapes.EntityCollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
 import org.spongepowered.asm.mixin.Mixin;
-import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
-import org.spongepowered.asm.mixin.injection.Inject;
-import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(BlockGetter.class)
 public interface BlockGetterMixin {
 
-	@Shadow
-	BlockState getBlockState(BlockPos var1);
-
-	@Inject(method = "clip", at = @At("HEAD"))
-	default void wilderWild$setClipInMesoglea(ClipContext context, CallbackInfoReturnable<BlockHitResult> info) {
-		if (context.collisionContext instanceof EntityCollisionContext entityCollisionContext) {
-			Entity entity = entityCollisionContext.getEntity();
-			if (entity instanceof InMesogleaInterface inMesogleaInterface) {
-				BlockState eyeState = getBlockState(BlockPos.containing(entity.getEyePosition()));
-				if (eyeState != null) {
-					inMesogleaInterface.wilderWild$setClipInMesoglea(
-						eyeState.is(WWBlockTags.MESOGLEA)
-						&& !eyeState.getFluidState().isEmpty()
-					);
-				}
-			}
-		}
-	}
-
 	@WrapOperation(
 		method = "method_17743",
 		at = @At(
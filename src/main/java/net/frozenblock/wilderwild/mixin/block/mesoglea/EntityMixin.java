@@ -22,12 +22,20 @@ import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import net.frozenblock.wilderwild.block.MesogleaBlock;
 import net.frozenblock.wilderwild.entity.impl.InMesogleaInterface;
+import net.frozenblock.wilderwild.tag.WWBlockTags;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
 import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(Entity.class)
 public class EntityMixin implements InMesogleaInterface {
@@ -58,6 +66,31 @@ public class EntityMixin implements InMesogleaInterface {
 		return operation.call(state, block) || MesogleaBlock.hasBubbleColumn(state);
 	}
 
+	/**
+	 * Sections without Mesoglea in their palette are skipped before the block at the entity's eyes is read.
+	 */
+	@Inject(method = "updateFluidOnEyes", at = @At("TAIL"))
+	private void wilderWild$updateClipInMesoglea(CallbackInfo info) {
+		Entity entity = Entity.class.cast(this);
+		int x = Mth.floor(entity.getX());
+		int y = Mth.floor(entity.getEyeY());
+		int z = Mth.floor(entity.getZ());
+
+		Level level = entity.level();
+		if (level.isOutsideBuildHeight(y)) {
+			this.wilderWild$clipInMesoglea = false;
+			return;
+		}
+		LevelChunk chunk = level.getChunk(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z));
+		LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+		if (section.hasOnlyAir() || !section.maybeHas(state -> state.is(WWBlockTags.MESOGLEA))) {
+			this.wilderWild$clipInMesoglea = false;
+			return;
+		}
+		BlockState eyeState = section.getBlockState(x & 15, y & 15, z & 15);
+		this.wilderWild$clipInMesoglea = eyeState.is(WWBlockTags.MESOGLEA) && !eyeState.getFluidState().isEmpty();
+	}
+
 	@Unique
 	@Override
 	public void wilderWild$setClipInMesoglea(boolean clipInMesoglea) {
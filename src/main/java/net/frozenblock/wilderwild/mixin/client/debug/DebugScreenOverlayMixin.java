@@ -0,0 +1,42 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.mixin.client.debug;
+
+import com.llamalad7.mixinextras.injector.ModifyReturnValue;
+import java.util.List;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.wilderwild.client.WWLeafTintCache;
+import net.frozenblock.wilderwild.client.WWParticleBudget;
+import net.minecraft.client.gui.components.DebugScreenOverlay;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+
+@Environment(EnvType.CLIENT)
+@Mixin(DebugScreenOverlay.class)
+public class DebugScreenOverlayMixin {
+
+	@ModifyReturnValue(method = "getGameInformation", at = @At("RETURN"))
+	public List<String> wilderWild$addParticleBudgetInfo(List<String> original) {
+		WWParticleBudget.addDebugInfo(original);
+		WWLeafTintCache.addDebugInfo(original);
+		return original;
+	}
+
+}
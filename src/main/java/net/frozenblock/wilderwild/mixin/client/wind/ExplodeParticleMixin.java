@@ -20,12 +20,11 @@ package net.frozenblock.wilderwild.mixin.client.wind;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.frozenblock.wilderwild.wind.WWClientWindField;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.ExplodeParticle;
 import net.minecraft.client.particle.TextureSheetParticle;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -41,11 +40,10 @@ public abstract class ExplodeParticleMixin extends TextureSheetParticle {
 
 	@Inject(method = "tick", at = @At("HEAD"))
 	public void wilderWild$tick(CallbackInfo info) {
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1.5D, 7D, 5D)
-			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-		this.xd += wind.x * 0.001D;
-		this.yd += wind.y * 0.00005D;
-		this.zd += wind.z * 0.001D;
+		WWClientWindField.sample(this.level, this.x, this.y, this.z, 1.5D, 7D, 5D, WWAmbienceAndMiscConfig.getParticleWindIntensity());
+		this.xd += WWClientWindField.windX * 0.001D;
+		this.yd += WWClientWindField.windY * 0.00005D;
+		this.zd += WWClientWindField.windZ * 0.001D;
 	}
 
 }
@@ -24,12 +24,11 @@ import com.llamalad7.mixinextras.sugar.ref.LocalBooleanRef;
 import com.llamalad7.mixinextras.sugar.ref.LocalDoubleRef;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.frozenblock.wilderwild.wind.WWClientWindField;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.TextureSheetParticle;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
@@ -68,10 +67,9 @@ public abstract class FallingLeafParticleMixin extends TextureSheetParticle {
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
 			wilderWild$useWind.set(true);
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-			wilderWild$windZ.set(wind.z);
-			return (float) wind.x * 0.6F;
+			WWClientWindField.sample(this.level, this.x, this.y, this.z, 1D, 7D, 5D, WWAmbienceAndMiscConfig.getParticleWindIntensity());
+			wilderWild$windZ.set(WWClientWindField.windZ);
+			return (float) WWClientWindField.windX * 0.6F;
 		}
 		return original;
 	}
@@ -106,10 +104,9 @@ public abstract class FallingLeafParticleMixin extends TextureSheetParticle {
 		require = 0
 	)
 	public void wilderWild$continueInWater(CallbackInfo info) {
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity()).scale(0.075D);
-		this.xd += (wind.x - this.xd) * (double)this.windCoefficient / 60D;
-		this.zd += (wind.z - this.zd) * (double)this.windCoefficient / 60D;
+		WWClientWindField.sample(this.level, this.x, this.y, this.z, 1D, 7D, 5D, WWAmbienceAndMiscConfig.getParticleWindIntensity() * 0.075D);
+		this.xd += (WWClientWindField.windX - this.xd) * (double)this.windCoefficient / 60D;
+		this.zd += (WWClientWindField.windZ - this.zd) * (double)this.windCoefficient / 60D;
 	}
 
 }
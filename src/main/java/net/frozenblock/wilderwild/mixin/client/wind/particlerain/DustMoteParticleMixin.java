@@ -24,10 +24,10 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
+import net.frozenblock.wilderwild.wind.WWClientWindField;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.SpriteSet;
-import net.minecraft.world.phys.Vec3;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Pseudo;
 import org.spongepowered.asm.mixin.injection.Constant;
@@ -54,10 +54,9 @@ public abstract class DustMoteParticleMixin extends WeatherParticle {
 		@Share("wilderWild$windZ")LocalDoubleRef windZ
 	) {
 		if (WWClientWindManager.shouldUseWind()) {
-			Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-				.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-			windZ.set(wind.z);
-			return this.xd + (wind.x * 0.005D);
+			WWClientWindField.sample(this.level, this.x, this.y, this.z, 1D, 7D, 5D, WWAmbienceAndMiscConfig.getParticleWindIntensity());
+			windZ.set(WWClientWindField.windZ);
+			return this.xd + (WWClientWindField.windX * 0.005D);
 		}
 		return constant;
 	}
@@ -18,13 +18,10 @@
 
 package net.frozenblock.wilderwild.mixin.sculk;
 
+import net.frozenblock.wilderwild.block.entity.impl.SculkSensorTickInterface;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
-import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.SculkSensorBlockEntity;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -33,17 +30,22 @@ import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 @Mixin(BlockEntity.class)
 public class BlockEntityMixin {
 
-	@Inject(method = "getUpdatePacket", at = @At("HEAD"), cancellable = true)
-	public void wilderWild$getUpdatePacket(CallbackInfoReturnable<Packet<ClientGamePacketListener>> info) {
-		if (BlockEntity.class.cast(this) instanceof SculkSensorBlockEntity sensorBlockEntity) {
-			info.setReturnValue(ClientboundBlockEntityDataPacket.create(sensorBlockEntity));
-		}
-	}
-
+	/**
+	 * Sends only the tendril animation state when a Sculk Sensor's chunk is sent, leaving out the vibration listener.
+	 * <p>
+	 * Later animation changes are synced with {@link net.frozenblock.wilderwild.networking.packet.WWSculkSensorAnimationPacket}.
+	 */
 	@Inject(method = "getUpdateTag", at = @At("HEAD"), cancellable = true)
 	public void wilderWild$getUpdateTag(HolderLookup.Provider lookupProvider, CallbackInfoReturnable<CompoundTag> info) {
-		if (BlockEntity.class.cast(this) instanceof SculkSensorBlockEntity sensorBlockEntity) {
-			info.setReturnValue(sensorBlockEntity.saveWithoutMetadata(lookupProvider));
+		if (BlockEntity.class.cast(this) instanceof SculkSensorTickInterface sculkSensor) {
+			CompoundTag nbt = new CompoundTag();
+			nbt.putInt("age", sculkSensor.wilderWild$getAge());
+			nbt.putInt("animTicks", sculkSensor.wilderWild$getAnimTicks());
+			nbt.putInt("prevAnimTicks", sculkSensor.wilderWild$getPrevAnimTicks());
+			nbt.putBoolean("active", sculkSensor.wilderWild$isActive());
+			nbt.putBoolean("prevActive", sculkSensor.wilderWild$isPrevActive());
+			nbt.putString("facing", sculkSensor.wilderWild$getFacing().getName());
+			info.setReturnValue(nbt);
 		}
 	}
 }
@@ -19,7 +19,7 @@
 package net.frozenblock.wilderwild.mixin.sculk;
 
 import java.util.Objects;
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.frozenblock.wilderwild.block.entity.impl.SculkSensorAnimationSync;
 import net.frozenblock.wilderwild.block.entity.impl.SculkSensorTickInterface;
 import net.frozenblock.wilderwild.registry.WWGameEvents;
 import net.minecraft.core.BlockPos;
@@ -27,10 +27,7 @@ import net.minecraft.core.Direction;
 import net.minecraft.core.Holder;
 import net.minecraft.core.HolderLookup;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.protocol.Packet;
-import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.CalibratedSculkSensorBlock;
@@ -91,20 +88,15 @@ public abstract class SculkSensorBlockEntityMixin extends BlockEntity implements
 		}
 		this.wilderWild$setAge(this.wilderWild$getAge() + 1);
 		this.wilderWild$setActive(state.getValue(BlockStateProperties.SCULK_SENSOR_PHASE) != SculkSensorPhase.INACTIVE);
-		if (this.wilderWild$isActive() != this.wilderWild$isPrevActive() || animTicks == 10) {
-			Packet<ClientGamePacketListener> sensorUpdatePacket = sensor.getUpdatePacket();
-			if (sensorUpdatePacket != null) {
-				for (ServerPlayer player : PlayerLookup.tracking(level, pos)) {
-					player.connection.send(sensorUpdatePacket);
-				}
-			}
-		}
-		this.wilderWild$setPrevActive(this.wilderWild$isActive());
 		if (sensor instanceof CalibratedSculkSensorBlockEntity) {
 			if (state.hasProperty(CalibratedSculkSensorBlock.FACING)) {
 				this.wilderWild$setFacing(state.getValue(CalibratedSculkSensorBlock.FACING));
 			}
 		}
+		if (this.wilderWild$isActive() != this.wilderWild$isPrevActive() || animTicks == 10) {
+			SculkSensorAnimationSync.get(level).queue(pos, this.wilderWild$isActive(), animTicks, this.wilderWild$getFacing());
+		}
+		this.wilderWild$setPrevActive(this.wilderWild$isActive());
 	}
 
 	@Unique
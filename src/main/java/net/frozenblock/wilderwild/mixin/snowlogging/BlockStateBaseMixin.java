@@ -24,6 +24,9 @@ import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
 import java.util.ArrayList;
 import java.util.List;
+import net.frozenblock.wilderwild.block.impl.SnowloggableStateInterface;
+import net.frozenblock.wilderwild.block.impl.SnowloggedShapeCache;
+import net.frozenblock.wilderwild.block.impl.SnowloggedShapeCacheInterface;
 import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -50,19 +53,76 @@ import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.shapes.CollisionContext;
 import net.minecraft.world.phys.shapes.Shapes;
 import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
 @Mixin(BlockBehaviour.BlockStateBase.class)
-public abstract class BlockStateBaseMixin {
+public abstract class BlockStateBaseMixin implements SnowloggedShapeCacheInterface, SnowloggableStateInterface {
+
+	@Unique
+	private static final int WILDERWILD$UNCOMPUTED_SNOW_LAYERS = -2;
+
+	@Unique
+	@Nullable
+	private SnowloggedShapeCache wilderWild$snowloggedShapeCache;
+
+	@Unique
+	private int wilderWild$snowLayers = WILDERWILD$UNCOMPUTED_SNOW_LAYERS;
 
 	@Shadow
 	protected abstract BlockState asState();
 
+	@Unique
+	@Override
+	public void wilderWild$setSnowloggedShapeCache(SnowloggedShapeCache snowloggedShapeCache) {
+		this.wilderWild$snowloggedShapeCache = snowloggedShapeCache;
+	}
+
+	@Unique
+	@Nullable
+	@Override
+	public SnowloggedShapeCache wilderWild$getSnowloggedShapeCache() {
+		return this.wilderWild$snowloggedShapeCache;
+	}
+
+	@Unique
+	@Override
+	public int wilderWild$getSnowLayers() {
+		int snowLayers = this.wilderWild$snowLayers;
+		if (snowLayers == WILDERWILD$UNCOMPUTED_SNOW_LAYERS) {
+			// Block states are immutable, so the layer count only has to be read from the property map once.
+			BlockState blockState = this.asState();
+			//noinspection ConstantValue
+			snowLayers = blockState.getValues() != null && blockState.hasProperty(SnowloggingUtils.SNOW_LAYERS)
+				? blockState.getValue(SnowloggingUtils.SNOW_LAYERS)
+				: -1;
+			this.wilderWild$snowLayers = snowLayers;
+		}
+		return snowLayers;
+	}
+
+	@Unique
+	@Nullable
+	private VoxelShape wilderWild$getCachedShape(SnowloggedShapeCache.ShapeType type, VoxelShape original) {
+		SnowloggedShapeCache shapeCache = this.wilderWild$snowloggedShapeCache;
+		return shapeCache != null ? shapeCache.getMergedShape(type, original) : null;
+	}
+
+	@Unique
+	private VoxelShape wilderWild$cacheShape(SnowloggedShapeCache.ShapeType type, BlockGetter level, VoxelShape original, VoxelShape merged) {
+		SnowloggedShapeCache shapeCache = this.wilderWild$snowloggedShapeCache;
+		if (shapeCache != null) {
+			shapeCache.cacheMergedShape(type, level, original, merged);
+		}
+		return merged;
+	}
+
 	@ModifyReturnValue(
 		method = "getCollisionShape(Lnet/minecraft/world/level/BlockGetter;Lnet/minecraft/core/BlockPos;Lnet/minecraft/world/phys/shapes/CollisionContext;)Lnet/minecraft/world/phys/shapes/VoxelShape;",
 		at = @At("RETURN")
@@ -70,7 +130,14 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getCollisionShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context));
+			VoxelShape cachedShape = this.wilderWild$getCachedShape(SnowloggedShapeCache.ShapeType.COLLISION, original);
+			if (cachedShape != null) return cachedShape;
+			return this.wilderWild$cacheShape(
+				SnowloggedShapeCache.ShapeType.COLLISION,
+				level,
+				original,
+				Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getCollisionShape(level, pos, context))
+			);
 		}
 		return original;
 	}
@@ -91,7 +158,14 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getVisualShape(VoxelShape original, BlockGetter level, BlockPos pos, CollisionContext context) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context));
+			VoxelShape cachedShape = this.wilderWild$getCachedShape(SnowloggedShapeCache.ShapeType.VISUAL, original);
+			if (cachedShape != null) return cachedShape;
+			return this.wilderWild$cacheShape(
+				SnowloggedShapeCache.ShapeType.VISUAL,
+				level,
+				original,
+				Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getVisualShape(level, pos, context))
+			);
 		}
 		return original;
 	}
@@ -100,7 +174,14 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getInteractionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos));
+			VoxelShape cachedShape = this.wilderWild$getCachedShape(SnowloggedShapeCache.ShapeType.INTERACTION, original);
+			if (cachedShape != null) return cachedShape;
+			return this.wilderWild$cacheShape(
+				SnowloggedShapeCache.ShapeType.INTERACTION,
+				level,
+				original,
+				Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getInteractionShape(level, pos))
+			);
 		}
 		return original;
 	}
@@ -109,7 +190,14 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getBlockSupportShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos));
+			VoxelShape cachedShape = this.wilderWild$getCachedShape(SnowloggedShapeCache.ShapeType.BLOCK_SUPPORT, original);
+			if (cachedShape != null) return cachedShape;
+			return this.wilderWild$cacheShape(
+				SnowloggedShapeCache.ShapeType.BLOCK_SUPPORT,
+				level,
+				original,
+				Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getBlockSupportShape(level, pos))
+			);
 		}
 		return original;
 	}
@@ -118,7 +206,14 @@ public abstract class BlockStateBaseMixin {
 	public VoxelShape wilderWild$getOcclusionShape(VoxelShape original, BlockGetter level, BlockPos pos) {
 		BlockState blockState = this.asState();
 		if (SnowloggingUtils.isSnowlogged(blockState)) {
-			return Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos));
+			VoxelShape cachedShape = this.wilderWild$getCachedShape(SnowloggedShapeCache.ShapeType.OCCLUSION, original);
+			if (cachedShape != null) return cachedShape;
+			return this.wilderWild$cacheShape(
+				SnowloggedShapeCache.ShapeType.OCCLUSION,
+				level,
+				original,
+				Shapes.or(original, SnowloggingUtils.getSnowEquivalent(blockState).getOcclusionShape(level, pos))
+			);
 		}
 		return original;
 	}
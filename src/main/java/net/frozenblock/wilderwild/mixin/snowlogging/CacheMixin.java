@@ -20,14 +20,20 @@ package net.frozenblock.wilderwild.mixin.snowlogging;
 
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.frozenblock.wilderwild.block.impl.SnowloggedShapeCache;
+import net.frozenblock.wilderwild.block.impl.SnowloggedShapeCacheInterface;
 import net.frozenblock.wilderwild.block.impl.SnowloggingUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.EmptyBlockGetter;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.phys.shapes.CollisionContext;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
 @Mixin(BlockBehaviour.BlockStateBase.Cache.class)
 public class CacheMixin {
@@ -44,4 +50,19 @@ public class CacheMixin {
 			&& SnowloggingUtils.getSnowLayers(blockState) >= SnowloggingUtils.MAX_LAYERS);
 	}
 
+	@Inject(method = "<init>", at = @At("TAIL"))
+	public void wilderWild$initSnowloggedShapes(BlockState blockState, CallbackInfo info) {
+		if (blockState.hasProperty(SnowloggingUtils.SNOW_LAYERS) && SnowloggingUtils.getSnowLayers(blockState) > 0) {
+			((SnowloggedShapeCacheInterface) blockState).wilderWild$setSnowloggedShapeCache(new SnowloggedShapeCache());
+			if (SnowloggingUtils.isSnowlogged(blockState)) {
+				// Querying against the EmptyBlockGetter fills the cache with every context-independent merged shape.
+				blockState.getCollisionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO, CollisionContext.empty());
+				blockState.getVisualShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO, CollisionContext.empty());
+				blockState.getInteractionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+				blockState.getBlockSupportShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+				blockState.getOcclusionShape(EmptyBlockGetter.INSTANCE, BlockPos.ZERO);
+			}
+		}
+	}
+
 }
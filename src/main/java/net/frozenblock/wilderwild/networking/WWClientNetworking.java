@@ -23,13 +23,18 @@ import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.frozenblock.lib.math.api.AdvancedMath;
 import net.frozenblock.wilderwild.block.entity.StoneChestBlockEntity;
+import net.frozenblock.wilderwild.block.entity.impl.SculkSensorTickInterface;
 import net.frozenblock.wilderwild.config.WWEntityConfig;
 import net.frozenblock.wilderwild.entity.Jellyfish;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
 import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
 import net.frozenblock.wilderwild.networking.packet.WWScorchingFirePlacePacket;
+import net.frozenblock.wilderwild.networking.packet.WWSculkSensorAnimationPacket;
 import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
 import net.frozenblock.wilderwild.networking.packet.WWWindPacket;
+import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.frozenblock.wilderwild.tag.WWBlockTags;
 import net.frozenblock.wilderwild.wind.WWClientWindManager;
@@ -59,6 +64,8 @@ public final class WWClientNetworking {
 		receiveLightningStrikePacket();
 		receiveStoneChestLidPacket();
 		receiveScorchingFirePlacePacket();
+		receiveTermiteEffectsPacket();
+		receiveSculkSensorAnimationPacket();
 	}
 
 	public static void receiveWindExtensionSyncPacket() {
@@ -145,6 +152,60 @@ public final class WWClientNetworking {
 		});
 	}
 
+	public static void receiveTermiteEffectsPacket() {
+		ClientPlayNetworking.registerGlobalReceiver(WWTermiteEffectsPacket.PACKET_TYPE, (packet, ctx) -> {
+			ClientLevel clientLevel = ctx.client().level;
+			RandomSource random = clientLevel.random;
+			for (WWTermiteEffectsPacket.Effect effect : packet.effects()) {
+				long pos = effect.pos();
+				double x = BlockPos.getX(pos) + 0.5D;
+				double y = BlockPos.getY(pos) + 0.5D;
+				double z = BlockPos.getZ(pos) + 0.5D;
+				switch (effect.type()) {
+					case TERMITE_PARTICLES -> {
+						for (int i = 0; i < effect.value(); i++) {
+							clientLevel.addParticle(WWParticleTypes.TERMITE, x, y, z, 0D, 0D, 0D);
+						}
+					}
+					case BLOCK_PARTICLES -> {
+						BlockParticleOption particleOptions = new BlockParticleOption(ParticleTypes.BLOCK, effect.getBlockState());
+						for (int i = 0; i < effect.value(); i++) {
+							clientLevel.addParticle(
+								particleOptions,
+								x + random.nextGaussian() * 0.3D,
+								y + random.nextGaussian() * 0.3D,
+								z + random.nextGaussian() * 0.3D,
+								random.nextGaussian() * 0.05D,
+								random.nextGaussian() * 0.05D,
+								random.nextGaussian() * 0.05D
+							);
+						}
+					}
+					case SOUND -> {
+						WWTermiteEffectsPacket.TermiteSound sound = effect.getSound();
+						clientLevel.playLocalSound(x, y, z, sound.getSound(), sound.getSource(), TermiteManager.BLOCK_SOUND_VOLUME, effect.getPitch(), false);
+					}
+				}
+			}
+		});
+	}
+
+	public static void receiveSculkSensorAnimationPacket() {
+		ClientPlayNetworking.registerGlobalReceiver(WWSculkSensorAnimationPacket.PACKET_TYPE, (packet, ctx) -> {
+			ClientLevel clientLevel = ctx.client().level;
+			BlockPos.MutableBlockPos mutableBlockPos = new BlockPos.MutableBlockPos();
+			for (WWSculkSensorAnimationPacket.Entry entry : packet.entries()) {
+				if (clientLevel.getBlockEntity(mutableBlockPos.set(entry.pos())) instanceof SculkSensorTickInterface sculkSensor) {
+					sculkSensor.wilderWild$setActive(entry.active());
+					sculkSensor.wilderWild$setPrevActive(entry.active());
+					sculkSensor.wilderWild$setAnimTicks(entry.animTicks());
+					sculkSensor.wilderWild$setPrevAnimTicks(entry.animTicks());
+					sculkSensor.wilderWild$setFacing(entry.facing());
+				}
+			}
+		});
+	}
+
 	private static void lightningBlockParticles(int tickCount, double x, double y, double z, @NotNull BlockState blockState, @NotNull RandomSource random, @NotNull ParticleEngine particleEngine) {
 		if (blockState.is(WWBlockTags.NO_LIGHTNING_BLOCK_PARTICLES)) {
 			return;
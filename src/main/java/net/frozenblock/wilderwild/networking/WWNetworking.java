@@ -22,7 +22,9 @@ import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
 import net.frozenblock.wilderwild.networking.packet.WWJellyfishStingPacket;
 import net.frozenblock.wilderwild.networking.packet.WWLightningStrikePacket;
 import net.frozenblock.wilderwild.networking.packet.WWScorchingFirePlacePacket;
+import net.frozenblock.wilderwild.networking.packet.WWSculkSensorAnimationPacket;
 import net.frozenblock.wilderwild.networking.packet.WWStoneChestLidPacket;
+import net.frozenblock.wilderwild.networking.packet.WWTermiteEffectsPacket;
 import net.frozenblock.wilderwild.networking.packet.WWWindPacket;
 import net.minecraft.network.RegistryFriendlyByteBuf;
 
@@ -35,5 +37,7 @@ public final class WWNetworking {
 		registry.register(WWLightningStrikePacket.PACKET_TYPE, WWLightningStrikePacket.CODEC);
 		registry.register(WWStoneChestLidPacket.PACKET_TYPE, WWStoneChestLidPacket.CODEC);
 		registry.register(WWScorchingFirePlacePacket.PACKET_TYPE, WWScorchingFirePlacePacket.CODEC);
+		registry.register(WWTermiteEffectsPacket.PACKET_TYPE, WWTermiteEffectsPacket.CODEC);
+		registry.register(WWSculkSensorAnimationPacket.PACKET_TYPE, WWSculkSensorAnimationPacket.CODEC);
 	}
 }
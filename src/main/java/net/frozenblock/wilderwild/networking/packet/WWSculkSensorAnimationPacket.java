@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.networking.packet;
+
+import java.util.List;
+import net.frozenblock.wilderwild.WWConstants;
+import net.minecraft.core.Direction;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Carries the tendril animation state of every Sculk Sensor in a single chunk that needed syncing during a single tick.
+ */
+public record WWSculkSensorAnimationPacket(List<Entry> entries) implements CustomPacketPayload {
+	public static final Type<WWSculkSensorAnimationPacket> PACKET_TYPE = new Type<>(
+		WWConstants.id("sculk_sensor_animation")
+	);
+
+	public static final StreamCodec<FriendlyByteBuf, WWSculkSensorAnimationPacket> CODEC = StreamCodec.ofMember(WWSculkSensorAnimationPacket::write, WWSculkSensorAnimationPacket::new);
+
+	public WWSculkSensorAnimationPacket(@NotNull FriendlyByteBuf buf) {
+		this(buf.readList(Entry::new));
+	}
+
+	public void write(@NotNull FriendlyByteBuf buf) {
+		buf.writeCollection(this.entries, (buffer, entry) -> entry.write(buffer));
+	}
+
+	@NotNull
+	public Type<?> type() {
+		return PACKET_TYPE;
+	}
+
+	/**
+	 * The animation state of a single Sculk Sensor.
+	 * <p>
+	 * The active flag and facing are packed into a single byte.
+	 *
+	 * @param pos       The packed position of the Sculk Sensor.
+	 * @param active    Whether the Sculk Sensor is active.
+	 * @param animTicks The remaining ticks of the tendril animation.
+	 * @param facing    The direction the tendrils face.
+	 */
+	public record Entry(long pos, boolean active, int animTicks, Direction facing) {
+
+		public Entry(@NotNull FriendlyByteBuf buf) {
+			this(buf.readLong(), buf.readVarInt(), buf.readByte());
+		}
+
+		private Entry(long pos, int animTicks, byte flags) {
+			this(pos, (flags & 8) != 0, animTicks, Direction.from3DDataValue(flags & 7));
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeLong(this.pos);
+			buf.writeVarInt(this.animTicks);
+			buf.writeByte((this.active ? 8 : 0) | this.facing.get3DDataValue());
+		}
+	}
+}
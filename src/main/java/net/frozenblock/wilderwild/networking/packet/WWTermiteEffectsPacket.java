@@ -0,0 +1,213 @@
+/*
+ * Copyright 2023-2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.networking.packet;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.List;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.frozenblock.wilderwild.WWConstants;
+import net.frozenblock.wilderwild.entity.ai.TermiteManager;
+import net.frozenblock.wilderwild.registry.WWSounds;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Carries every termite particle burst and sound from a single chunk during a single tick.
+ */
+public record WWTermiteEffectsPacket(List<Effect> effects) implements CustomPacketPayload {
+	public static final Type<WWTermiteEffectsPacket> PACKET_TYPE = new Type<>(
+		WWConstants.id("termite_effects")
+	);
+
+	public static final StreamCodec<FriendlyByteBuf, WWTermiteEffectsPacket> CODEC = StreamCodec.ofMember(WWTermiteEffectsPacket::write, WWTermiteEffectsPacket::new);
+
+	public WWTermiteEffectsPacket(@NotNull FriendlyByteBuf buf) {
+		this(buf.readList(Effect::read));
+	}
+
+	public void write(@NotNull FriendlyByteBuf buf) {
+		buf.writeCollection(this.effects, (buffer, effect) -> effect.write(buffer));
+	}
+
+	@NotNull
+	public Type<?> type() {
+		return PACKET_TYPE;
+	}
+
+	public enum EffectType {
+		TERMITE_PARTICLES,
+		BLOCK_PARTICLES,
+		SOUND
+	}
+
+	public enum TermiteSound {
+		MOUND_ENTER(WWSounds.BLOCK_TERMITE_MOUND_ENTER, SoundSource.NEUTRAL),
+		MOUND_EXIT(WWSounds.BLOCK_TERMITE_MOUND_EXIT, SoundSource.NEUTRAL),
+		GNAW_FINISH(WWSounds.BLOCK_TERMITE_MOUND_TERMITE_GNAW_FINISH, SoundSource.BLOCKS),
+		LOG_HOLLOWED(WWSounds.LOG_HOLLOWED, SoundSource.BLOCKS),
+		STEM_HOLLOWED(WWSounds.STEM_HOLLOWED, SoundSource.BLOCKS);
+
+		private final SoundEvent sound;
+		private final SoundSource source;
+
+		TermiteSound(@NotNull SoundEvent sound, @NotNull SoundSource source) {
+			this.sound = sound;
+			this.source = source;
+		}
+
+		@NotNull
+		public SoundEvent getSound() {
+			return this.sound;
+		}
+
+		@NotNull
+		public SoundSource getSource() {
+			return this.source;
+		}
+	}
+
+	/**
+	 * A single termite effect.
+	 *
+	 * @param type  The kind of effect.
+	 * @param pos   The packed position of the effect.
+	 * @param value The particle count, or the ordinal of a {@link TermiteSound}.
+	 * @param data  The block state id for block particles, or the raw bits of a sound's pitch. Not sent for termite particles.
+	 */
+	public record Effect(EffectType type, long pos, int value, int data) {
+		private static final double PARTICLE_RANGE = 32D;
+
+		@NotNull
+		public static Effect read(@NotNull FriendlyByteBuf buf) {
+			EffectType type = buf.readEnum(EffectType.class);
+			long pos = buf.readLong();
+			int value = buf.readVarInt();
+			int data = switch (type) {
+				case TERMITE_PARTICLES -> 0;
+				case BLOCK_PARTICLES -> buf.readVarInt();
+				case SOUND -> buf.readInt();
+			};
+			return new Effect(type, pos, value, data);
+		}
+
+		public void write(@NotNull FriendlyByteBuf buf) {
+			buf.writeEnum(this.type);
+			buf.writeLong(this.pos);
+			buf.writeVarInt(this.value);
+			switch (this.type) {
+				case BLOCK_PARTICLES -> buf.writeVarInt(this.data);
+				case SOUND -> buf.writeInt(this.data);
+				default -> {}
+			}
+		}
+
+		/**
+		 * Checks if the player is in range of the effect, using the same ranges as {@link ServerLevel#sendParticles} and {@link ServerLevel#playSound}.
+		 */
+		public boolean isInRange(@NotNull ServerPlayer player) {
+			double range = this.type == EffectType.SOUND ? this.getSound().getSound().getRange(TermiteManager.BLOCK_SOUND_VOLUME) : PARTICLE_RANGE;
+			double x = BlockPos.getX(this.pos) + 0.5D - player.getX();
+			double y = BlockPos.getY(this.pos) + 0.5D - player.getY();
+			double z = BlockPos.getZ(this.pos) + 0.5D - player.getZ();
+			return (x * x) + (y * y) + (z * z) < range * range;
+		}
+
+		@NotNull
+		public BlockState getBlockState() {
+			return Block.stateById(this.data);
+		}
+
+		@NotNull
+		public TermiteSound getSound() {
+			return TermiteSound.values()[this.value];
+		}
+
+		public float getPitch() {
+			return Float.intBitsToFloat(this.data);
+		}
+	}
+
+	/**
+	 * Collects termite effects for one chunk, then sends each of the chunk's tracking players the effects in range of them as one packet.
+	 * <p>
+	 * A single builder is reused for every chunk.
+	 */
+	public static class Builder {
+		private final ObjectArrayList<Effect> effects = new ObjectArrayList<>();
+		private final ObjectArrayList<Effect> effectsInRange = new ObjectArrayList<>();
+
+		public void addTermiteParticles(long pos, int count) {
+			this.effects.add(new Effect(EffectType.TERMITE_PARTICLES, pos, count, 0));
+		}
+
+		public void addBlockParticles(@NotNull BlockPos pos, @NotNull BlockState state, int count) {
+			this.effects.add(new Effect(EffectType.BLOCK_PARTICLES, pos.asLong(), count, Block.getId(state)));
+		}
+
+		public void addSound(@NotNull BlockPos pos, @NotNull TermiteSound sound, float pitch) {
+			this.effects.add(new Effect(EffectType.SOUND, pos.asLong(), sound.ordinal(), Float.floatToIntBits(pitch)));
+		}
+
+		public boolean isEmpty() {
+			return this.effects.isEmpty();
+		}
+
+		/**
+		 * Sends the collected effects and clears the builder.
+		 *
+		 * @return the number of individual packets saved by batching.
+		 */
+		public int send(@NotNull ServerLevel level, @NotNull ChunkPos chunkPos) {
+			if (this.effects.isEmpty()) return 0;
+			WWTermiteEffectsPacket allEffectsPacket = null;
+			int saved = 0;
+			for (ServerPlayer player : PlayerLookup.tracking(level, chunkPos)) {
+				this.effectsInRange.clear();
+				for (Effect effect : this.effects) {
+					if (effect.isInRange(player)) this.effectsInRange.add(effect);
+				}
+				if (this.effectsInRange.isEmpty()) continue;
+
+				WWTermiteEffectsPacket packet;
+				if (this.effectsInRange.size() == this.effects.size()) {
+					if (allEffectsPacket == null) allEffectsPacket = new WWTermiteEffectsPacket(List.copyOf(this.effects));
+					packet = allEffectsPacket;
+				} else {
+					packet = new WWTermiteEffectsPacket(List.copyOf(this.effectsInRange));
+				}
+				ServerPlayNetworking.send(player, packet);
+				saved += this.effectsInRange.size() - 1;
+			}
+			this.effects.clear();
+			this.effectsInRange.clear();
+			return saved;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.fabric.api.client.rendering.v1.ColorProviderRegistry;
 import net.frozenblock.wilderwild.block.impl.FallingLeafUtil;
+import net.frozenblock.wilderwild.client.WWLeafTintCache;
 import net.frozenblock.wilderwild.particle.options.LeafParticleOptions;
 import net.minecraft.client.color.block.BlockColor;
 import net.minecraft.client.multiplayer.ClientLevel;
@@ -29,7 +30,6 @@ import net.minecraft.client.particle.CherryParticle;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleProvider;
 import net.minecraft.client.particle.SpriteSet;
-import net.minecraft.client.renderer.BiomeColors;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleType;
 import net.minecraft.util.FastColor;
@@ -54,11 +54,7 @@ public class LeafParticle extends CherryParticle {
 			Block leavesBlock = leafParticleData.leavesBlock();
 			BlockColor blockColor = ColorProviderRegistry.BLOCK.get(leavesBlock);
 			if (blockColor != null) {
-				BlockPos particlePos = BlockPos.containing(x, y, z);
-				color = world.getBlockTint(particlePos, BiomeColors.FOLIAGE_COLOR_RESOLVER);
-				try {
-					color = blockColor.getColor(leavesBlock.defaultBlockState(), world, particlePos, 0);
-				} catch (Exception ignored) {}
+				color = WWLeafTintCache.getTint(world, leavesBlock, blockColor, BlockPos.containing(x, y, z));
 			}
 		}
 		this.rCol = FastColor.ARGB32.red(color) / 255F;
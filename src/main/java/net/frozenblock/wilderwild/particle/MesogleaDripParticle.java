@@ -23,6 +23,7 @@ import com.mojang.math.Axis;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.math.api.AdvancedMath;
+import net.frozenblock.wilderwild.client.WWParticleBudget;
 import net.frozenblock.wilderwild.registry.WWParticleTypes;
 import net.frozenblock.wilderwild.registry.WWSounds;
 import net.minecraft.client.Camera;
@@ -180,6 +181,7 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 		@Override
 		public Particle createParticle(@NotNull SimpleParticleType simpleParticleType, @NotNull ClientLevel clientLevel, double d, double e, double f, double g, double h, double i) {
+			if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.MESOGLEA, WWParticleBudget.Priority.LOW, d, e, f)) return null;
 			return new DripHangParticle(clientLevel, d, e, f, WWParticleTypes.BLUE_PEARLESCENT_FALLING_MESOGLEA, sprite);
 		}
 	}
@@ -227,6 +229,7 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 		@Override
 		public Particle createParticle(@NotNull SimpleParticleType simpleParticleType, @NotNull ClientLevel clientLevel, double d, double e, double f, double g, double h, double i) {
+			if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.MESOGLEA, WWParticleBudget.Priority.LOW, d, e, f)) return null;
 			return new DripHangParticle(clientLevel, d, e, f, WWParticleTypes.PURPLE_PEARLESCENT_FALLING_MESOGLEA, sprite);
 		}
 	}
@@ -274,6 +277,7 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 		@Override
 		public Particle createParticle(@NotNull SimpleParticleType simpleParticleType, @NotNull ClientLevel clientLevel, double d, double e, double f, double g, double h, double i) {
+			if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.MESOGLEA, WWParticleBudget.Priority.LOW, d, e, f)) return null;
 			return new DripHangParticle(clientLevel, d, e, f, WWParticleTypes.BLUE_FALLING_MESOGLEA, sprite);
 		}
 	}
@@ -321,6 +325,7 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 		@Override
 		public Particle createParticle(@NotNull SimpleParticleType simpleParticleType, @NotNull ClientLevel clientLevel, double d, double e, double f, double g, double h, double i) {
+			if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.MESOGLEA, WWParticleBudget.Priority.LOW, d, e, f)) return null;
 			return new DripHangParticle(clientLevel, d, e, f, WWParticleTypes.YELLOW_FALLING_MESOGLEA, sprite);
 		}
 	}
@@ -368,6 +373,7 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 		@Override
 		public Particle createParticle(@NotNull SimpleParticleType simpleParticleType, @NotNull ClientLevel clientLevel, double d, double e, double f, double g, double h, double i) {
+			if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.MESOGLEA, WWParticleBudget.Priority.LOW, d, e, f)) return null;
 			return new DripHangParticle(clientLevel, d, e, f, WWParticleTypes.LIME_FALLING_MESOGLEA, sprite);
 		}
 	}
@@ -415,6 +421,7 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 		@Override
 		public Particle createParticle(@NotNull SimpleParticleType simpleParticleType, @NotNull ClientLevel clientLevel, double d, double e, double f, double g, double h, double i) {
+			if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.MESOGLEA, WWParticleBudget.Priority.LOW, d, e, f)) return null;
 			return new DripHangParticle(clientLevel, d, e, f, WWParticleTypes.RED_FALLING_MESOGLEA, sprite);
 		}
 	}
@@ -462,6 +469,7 @@ public class MesogleaDripParticle extends TextureSheetParticle {
 
 		@Override
 		public Particle createParticle(@NotNull SimpleParticleType simpleParticleType, @NotNull ClientLevel clientLevel, double d, double e, double f, double g, double h, double i) {
+			if (!WWParticleBudget.tryConsume(WWParticleBudget.Family.MESOGLEA, WWParticleBudget.Priority.LOW, d, e, f)) return null;
 			return new DripHangParticle(clientLevel, d, e, f, WWParticleTypes.PINK_FALLING_MESOGLEA, sprite);
 		}
 	}
@@ -21,9 +21,9 @@ package net.frozenblock.wilderwild.particle;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.frozenblock.lib.math.api.AdvancedMath;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.config.WWBlockConfig;
+import net.frozenblock.wilderwild.wind.WWClientWindField;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleProvider;
@@ -34,7 +34,6 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.material.FluidState;
-import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
 
 @Environment(EnvType.CLIENT)
@@ -104,11 +103,10 @@ public class PollenParticle extends TextureSheetParticle {
 			if (!rain) {
 				double multXZ = (onGround ? 0.00025D : 0.0035D) * WIND_INTENSITY;
 				double multY = (onGround ? 0.00025D : 0.00175D) * WIND_INTENSITY;
-				Vec3 wind = ClientWindManager.getWindMovement(this.level, new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-					.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-				this.xd += wind.x() * multXZ;
-				this.yd += (wind.y() + 0.1D) * multY;
-				this.zd += wind.z() * multXZ;
+				WWClientWindField.sample(this.level, this.x, this.y, this.z, 1D, 7D, 5D, WWAmbienceAndMiscConfig.getParticleWindIntensity());
+				this.xd += WWClientWindField.windX * multXZ;
+				this.yd += (WWClientWindField.windY + 0.1D) * multY;
+				this.zd += WWClientWindField.windZ * multXZ;
 			}
 		} else {
 			this.remove();
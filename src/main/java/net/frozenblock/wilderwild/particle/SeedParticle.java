@@ -24,6 +24,7 @@ import net.frozenblock.lib.math.api.AdvancedMath;
 import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.options.SeedParticleOptions;
+import net.frozenblock.wilderwild.wind.WWClientWindField;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
 import net.minecraft.client.particle.ParticleProvider;
@@ -72,11 +73,10 @@ public class SeedParticle extends TextureSheetParticle {
 		}
 		double multXZ = (this.onGround ? 0.00025D : 0.0035D) * this.windIntensity;
 		double multY = (this.onGround ? 0.00025D : 0.00175D) * this.windIntensity;
-		Vec3 wind = ClientWindManager.getWindMovement(this.level,new Vec3(this.x, this.y, this.z), 1D, 7D, 5D)
-			.scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-		this.xd += wind.x() * multXZ;
-		this.yd += (wind.y() + 0.1D) * multY;
-		this.zd += wind.z() * multXZ;
+		WWClientWindField.sample(this.level, this.x, this.y, this.z, 1D, 7D, 5D, WWAmbienceAndMiscConfig.getParticleWindIntensity());
+		this.xd += WWClientWindField.windX * multXZ;
+		this.yd += (WWClientWindField.windY + 0.1D) * multY;
+		this.zd += WWClientWindField.windZ * multXZ;
 	}
 
 	@Override
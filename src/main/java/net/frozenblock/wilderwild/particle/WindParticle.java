@@ -19,13 +19,12 @@
 package net.frozenblock.wilderwild.particle;
 
 import com.mojang.blaze3d.vertex.VertexConsumer;
-import java.util.List;
-import java.util.function.Consumer;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
-import net.frozenblock.lib.wind.api.ClientWindManager;
 import net.frozenblock.wilderwild.config.WWAmbienceAndMiscConfig;
 import net.frozenblock.wilderwild.particle.options.WindParticleOptions;
+import net.frozenblock.wilderwild.wind.WWClientWindField;
 import net.minecraft.client.Camera;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.particle.Particle;
@@ -33,16 +32,22 @@ import net.minecraft.client.particle.ParticleProvider;
 import net.minecraft.client.particle.ParticleRenderType;
 import net.minecraft.client.particle.SpriteSet;
 import net.minecraft.client.particle.TextureSheetParticle;
+import net.minecraft.core.Direction;
 import net.minecraft.util.Mth;
-import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.Shapes;
+import net.minecraft.world.phys.shapes.VoxelShape;
 import org.jetbrains.annotations.NotNull;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
 
 @Environment(EnvType.CLIENT)
 public class WindParticle extends TextureSheetParticle {
-	private static final Vector3f NORMALIZED_QUAT_VECTOR = new Vector3f(0.5F, 0.5F, 0.5F).normalize();
+	// Wind particles are only ticked and rendered on the client thread, so these can be shared between every particle.
+	private static final Quaternionf ROTATION = new Quaternionf();
+	private static final Vector3f CORNER = new Vector3f();
+	private static final ObjectArrayList<VoxelShape> COLLISIONS = new ObjectArrayList<>();
 	private final SpriteSet spriteProvider;
 	private int ageBeforeDissipating;
 
@@ -73,11 +78,10 @@ public class WindParticle extends TextureSheetParticle {
 		super.tick();
 		double multXZ = 0.007D;
 		double multY = 0.0015D * 0.695;
-		Vec3 pos = new Vec3(this.x, this.y, this.z);
-		Vec3 wind = ClientWindManager.getWindMovement(this.level, pos, 1D, 7D, 5D).scale(WWAmbienceAndMiscConfig.getParticleWindIntensity());
-		this.xd += wind.x() * multXZ;
-		this.yd += wind.y() * multY;
-		this.zd += wind.z() * multXZ;
+		WWClientWindField.sample(this.level, this.x, this.y, this.z, 1D, 7D, 5D, WWAmbienceAndMiscConfig.getParticleWindIntensity());
+		this.xd += WWClientWindField.windX * multXZ;
+		this.yd += WWClientWindField.windY * multY;
+		this.zd += WWClientWindField.windZ * multXZ;
 
 		this.prevYRot = this.yRot;
 		this.prevXRot = this.xRot;
@@ -141,15 +145,35 @@ public class WindParticle extends TextureSheetParticle {
 			double e = y;
 			double f = z;
 			if ((x != 0D || y != 0D || z != 0D) && x * x + y * y + z * z < Mth.square(100D)) {
-				Vec3 vec3 = Entity.collideBoundingBox(null, new Vec3(x, y, z), this.getBoundingBox(), this.level, List.of());
-				x = vec3.x;
-				y = vec3.y;
-				z = vec3.z;
+				AABB box = this.getBoundingBox();
+				COLLISIONS.clear();
+				for (VoxelShape shape : this.level.getBlockCollisions(null, box.expandTowards(x, y, z))) {
+					if (!shape.isEmpty()) COLLISIONS.add(shape);
+				}
+				if (!COLLISIONS.isEmpty()) {
+					// Same axis order as Entity#collideBoundingBox, without the entity and world border checks these particles never need.
+					if (y != 0D) {
+						y = Shapes.collide(Direction.Axis.Y, box, COLLISIONS, y);
+						if (y != 0D) box = box.move(0D, y, 0D);
+					}
+					boolean zFirst = Math.abs(x) < Math.abs(z);
+					if (zFirst && z != 0D) {
+						z = Shapes.collide(Direction.Axis.Z, box, COLLISIONS, z);
+						if (z != 0D) box = box.move(0D, 0D, z);
+					}
+					if (x != 0D) {
+						x = Shapes.collide(Direction.Axis.X, box, COLLISIONS, x);
+						if (!zFirst && x != 0D) box = box.move(x, 0D, 0D);
+					}
+					if (!zFirst && z != 0D) {
+						z = Shapes.collide(Direction.Axis.Z, box, COLLISIONS, z);
+					}
+					COLLISIONS.clear();
+				}
 			}
-			Vec3 vec3 = new Vec3(d, e, f);
 			boolean canDissipate = this.age > 7;
 
-			if (canDissipate && vec3.length() < 0.0065D) {
+			if (canDissipate && Mth.lengthSquared(d, e, f) < Mth.square(0.0065D)) {
 				this.shouldDissipate = true;
 			}
 			if (x != 0D || y != 0D || z != 0D) {
@@ -188,83 +212,68 @@ public class WindParticle extends TextureSheetParticle {
 	public void render(VertexConsumer buffer, @NotNull Camera renderInfo, float partialTicks) {
 		float yRot = Mth.lerp(partialTicks, this.prevYRot, this.yRot) * Mth.DEG_TO_RAD;
 		float xRot = Mth.lerp(partialTicks, this.prevXRot, this.xRot) * -Mth.DEG_TO_RAD;
-		float cameraRotWhileVertical = ((-renderInfo.getYRot()) * (1F - Mth.lerp(partialTicks, this.prevRotMultiplier, this.rotMultiplier))) * Mth.DEG_TO_RAD;
-
-		float x = (float)(Mth.lerp(partialTicks, this.xo, this.x));
-		float y = (float)(Mth.lerp(partialTicks, this.yo, this.y));
-		float z = (float)(Mth.lerp(partialTicks, this.zo, this.z));
-		Vec3 relativePos = new Vec3(x, y, z).subtract(renderInfo.getPosition());
-		relativePos = new Vec3(
-			relativePos.x > 0 ? 1D : -1D,
-			relativePos.y > 0 ? 1D : -1D,
-			relativePos.z > 0 ? 1D : -1D
-		);
-		Vec3 particleMovement = new Vec3(this.xd, 0D, this.zd).normalize();
-		float xDifference = (float) Math.abs(particleMovement.x + relativePos.z);
-		xDifference = xDifference >= 1F ? 0 : (Math.abs(xDifference - 1F));
-		boolean shouldDoubleClampXRot = xDifference == 0D;
+		float rotMultiplier = Mth.lerp(partialTicks, this.prevRotMultiplier, this.rotMultiplier);
+		float cameraRotWhileVertical = ((-renderInfo.getYRot()) * (1F - rotMultiplier)) * Mth.DEG_TO_RAD;
+
+		Vec3 cameraPos = renderInfo.getPosition();
+		float relativeX = (float) (Mth.lerp(partialTicks, this.xo, this.x) - cameraPos.x);
+		float relativeY = (float) (Mth.lerp(partialTicks, this.yo, this.y) - cameraPos.y);
+		float relativeZ = (float) (Mth.lerp(partialTicks, this.zo, this.z) - cameraPos.z);
+		double sideX = relativeX > 0F ? 1D : -1D;
+		double sideZ = relativeZ > 0F ? 1D : -1D;
+
+		double movementLength = Math.sqrt((this.xd * this.xd) + (this.zd * this.zd));
+		double movementX = movementLength < 1.0E-4D ? 0D : this.xd / movementLength;
+		double movementZ = movementLength < 1.0E-4D ? 0D : this.zd / movementLength;
+
 		float cameraXRot = renderInfo.getXRot();
-		xDifference = Mth.sin((-cameraXRot * Mth.PI) / 180F) * Mth.PI * xDifference;
+		float cameraXRotSin = Mth.sin((-cameraXRot * Mth.PI) / 180F) * Mth.PI;
 
-		float zDifference = (float) Math.abs(particleMovement.z - relativePos.x);
-		zDifference = zDifference >= 1F ? 0 : (Math.abs(zDifference - 1F));
-		shouldDoubleClampXRot = shouldDoubleClampXRot || zDifference == 0D;
-		zDifference = Mth.sin((-cameraXRot * Mth.PI) / 180F) * Mth.PI * zDifference;
+		float xDifference = (float) Math.abs(movementX + sideZ);
+		xDifference = xDifference >= 1F ? 0F : (Math.abs(xDifference - 1F));
+		boolean shouldDoubleClampXRot = xDifference == 0F;
+		xDifference = cameraXRotSin * xDifference;
+
+		float zDifference = (float) Math.abs(movementZ - sideX);
+		zDifference = zDifference >= 1F ? 0F : (Math.abs(zDifference - 1F));
+		shouldDoubleClampXRot = shouldDoubleClampXRot || zDifference == 0F;
+		zDifference = cameraXRotSin * zDifference;
 
 		if (shouldDoubleClampXRot) {
 			cameraXRot = Math.clamp(cameraXRot * 1.5F, -90, 90);
 		}
 
-		float cameraRotWhileSideways = ((90F + cameraXRot) * (Mth.lerp(partialTicks, this.prevRotMultiplier, this.rotMultiplier))) * Mth.DEG_TO_RAD + xDifference + zDifference;
-		this.renderParticle(buffer, renderInfo, partialTicks, this.flipped, transforms -> transforms.rotateY(yRot)
-			.rotateX(-xRot)
-			.rotateY(cameraRotWhileSideways)
-			.rotateY(cameraRotWhileVertical)
-		);
-		this.renderParticle(buffer, renderInfo, partialTicks, !this.flipped, transforms -> transforms.rotateY((float) -Math.PI + yRot)
-			.rotateX(xRot)
-			.rotateY(cameraRotWhileSideways)
-			.rotateY(cameraRotWhileVertical));
-	}
+		// Both camera rotations are around the Y axis, so they are applied as a single rotation.
+		float cameraRot = ((90F + cameraXRot) * rotMultiplier) * Mth.DEG_TO_RAD + xDifference + zDifference + cameraRotWhileVertical;
+		float quadSize = this.getQuadSize(partialTicks);
+		int light = this.getLightColor(partialTicks);
 
-	private void renderParticle(VertexConsumer buffer, @NotNull Camera renderInfo, float partialTicks, boolean flipped, @NotNull Consumer<Quaternionf> quaternionConsumer) {
-		Vec3 vec3 = renderInfo.getPosition();
-		float f = (float)(Mth.lerp(partialTicks, this.xo, this.x) - vec3.x());
-		float g = (float)(Mth.lerp(partialTicks, this.yo, this.y) - vec3.y());
-		float h = (float)(Mth.lerp(partialTicks, this.zo, this.z) - vec3.z());
-		Quaternionf quaternionf = new Quaternionf().setAngleAxis(0F, NORMALIZED_QUAT_VECTOR.x(), NORMALIZED_QUAT_VECTOR.y(), NORMALIZED_QUAT_VECTOR.z());
-		quaternionConsumer.accept(quaternionf);
-		Vector3f[] vector3fs = new Vector3f[]{
-			new Vector3f(-1F, -1F, 0F), new Vector3f(-1F, 1F, 0F), new Vector3f(1F, 1F, 0F), new Vector3f(1F, -1F, 0F)
-		};
-		float i = this.getQuadSize(partialTicks);
-
-		for(int j = 0; j < 4; ++j) {
-			Vector3f vector3f2 = vector3fs[j];
-			vector3f2.rotate(quaternionf);
-			vector3f2.mul(i);
-			vector3f2.add(f, g, h);
-		}
+		ROTATION.identity().rotateY(yRot).rotateX(-xRot).rotateY(cameraRot);
+		this.renderParticle(buffer, relativeX, relativeY, relativeZ, quadSize, light, this.flipped);
+		ROTATION.identity().rotateY((float) -Math.PI + yRot).rotateX(xRot).rotateY(cameraRot);
+		this.renderParticle(buffer, relativeX, relativeY, relativeZ, quadSize, light, !this.flipped);
+	}
 
+	private void renderParticle(VertexConsumer buffer, float relativeX, float relativeY, float relativeZ, float quadSize, int light, boolean flipped) {
 		float k = !flipped ? this.getU0() : this.getU1();
 		float l = !flipped ? this.getU1() : this.getU0();
 		float m = this.getV0();
 		float n = this.getV1();
-		int light = this.getLightColor(partialTicks);
-		buffer.addVertex(vector3fs[0].x(), vector3fs[0].y(), vector3fs[0].z())
-			.setUv(l, n)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[1].x(), vector3fs[1].y(), vector3fs[1].z())
-			.setUv(l, m)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[2].x(), vector3fs[2].y(), vector3fs[2].z())
-			.setUv(k, m)
-			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
-			.setLight(light);
-		buffer.addVertex(vector3fs[3].x(), vector3fs[3].y(), vector3fs[3].z())
-			.setUv(k, n)
+		this.renderVertex(buffer, -1F, -1F, relativeX, relativeY, relativeZ, quadSize, l, n, light);
+		this.renderVertex(buffer, -1F, 1F, relativeX, relativeY, relativeZ, quadSize, l, m, light);
+		this.renderVertex(buffer, 1F, 1F, relativeX, relativeY, relativeZ, quadSize, k, m, light);
+		this.renderVertex(buffer, 1F, -1F, relativeX, relativeY, relativeZ, quadSize, k, n, light);
+	}
+
+	private void renderVertex(
+		@NotNull VertexConsumer buffer,
+		float cornerX, float cornerY,
+		float relativeX, float relativeY, float relativeZ,
+		float quadSize, float u, float v, int light
+	) {
+		CORNER.set(cornerX, cornerY, 0F).rotate(ROTATION).mul(quadSize).add(relativeX, relativeY, relativeZ);
+		buffer.addVertex(CORNER.x(), CORNER.y(), CORNER.z())
+			.setUv(u, v)
 			.setColor(this.rCol, this.gCol, this.bCol, this.alpha)
 			.setLight(light);
 	}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.api.ClientWindManager;
+import net.frozenblock.lib.wind.api.WindDisturbance;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A per-tick index of the client's active wind disturbances.
+ * <p>
+ * Each disturbance is stored under every chunk section it overlaps, so checking if a position is disturbed only looks at the disturbances around it.
+ * Disturbances spanning too many sections are kept in a separate list and always checked.
+ * <p>
+ * The block positions each disturbance covers around the camera are also kept, so disturbance particles can be spawned inside them directly.
+ */
+@Environment(EnvType.CLIENT)
+public final class WWClientWindDisturbances {
+	private static final int MAX_INDEXED_SECTIONS = 64;
+	private static final ObjectArrayList<AABB> AREAS = new ObjectArrayList<>();
+	private static final Long2ObjectOpenHashMap<IntArrayList> SECTIONS = new Long2ObjectOpenHashMap<>();
+	private static final IntArrayList LARGE_AREAS = new IntArrayList();
+	private static final IntArrayList SPAWN_BOUNDS = new IntArrayList();
+	private static final LongArrayList SPAWN_VOLUMES = new LongArrayList();
+	private static long totalSpawnVolume;
+	private static long spawnRangeVolume = 1L;
+
+	private WWClientWindDisturbances() {
+		throw new UnsupportedOperationException("WWClientWindDisturbances contains only static declarations.");
+	}
+
+	/**
+	 * Rebuilds the index from {@link ClientWindManager#getWindDisturbances()}, keeping spawn bounds within the given range of the camera.
+	 * <p>
+	 * Called every client tick from {@link WWClientWindManager#clientTick()}.
+	 */
+	public static void tick(int posX, int posY, int posZ, int range) {
+		clear();
+		long rangeSize = range * 2L + 1L;
+		spawnRangeVolume = rangeSize * rangeSize * rangeSize;
+
+		for (WindDisturbance<?> windDisturbance : ClientWindManager.getWindDisturbances()) {
+			AABB area = windDisturbance.affectedArea;
+			int index = AREAS.size();
+			AREAS.add(area);
+
+			int minSectionX = SectionPos.blockToSectionCoord(Mth.floor(area.minX));
+			int minSectionY = SectionPos.blockToSectionCoord(Mth.floor(area.minY));
+			int minSectionZ = SectionPos.blockToSectionCoord(Mth.floor(area.minZ));
+			int maxSectionX = SectionPos.blockToSectionCoord(Mth.floor(area.maxX));
+			int maxSectionY = SectionPos.blockToSectionCoord(Mth.floor(area.maxY));
+			int maxSectionZ = SectionPos.blockToSectionCoord(Mth.floor(area.maxZ));
+			long sectionCount = (long) (maxSectionX - minSectionX + 1) * (maxSectionY - minSectionY + 1) * (maxSectionZ - minSectionZ + 1);
+			if (sectionCount > MAX_INDEXED_SECTIONS) {
+				LARGE_AREAS.add(index);
+			} else {
+				for (int x = minSectionX; x <= maxSectionX; x++) {
+					for (int y = minSectionY; y <= maxSectionY; y++) {
+						for (int z = minSectionZ; z <= maxSectionZ; z++) {
+							SECTIONS.computeIfAbsent(SectionPos.asLong(x, y, z), section -> new IntArrayList()).add(index);
+						}
+					}
+				}
+			}
+
+			// AABB#contains includes the minimum corner but not the maximum, so these are the block positions the area contains.
+			int minX = Math.max(Mth.ceil(area.minX), posX - range);
+			int minY = Math.max(Mth.ceil(area.minY), posY - range);
+			int minZ = Math.max(Mth.ceil(area.minZ), posZ - range);
+			int maxX = Math.min(Mth.ceil(area.maxX) - 1, posX + range);
+			int maxY = Math.min(Mth.ceil(area.maxY) - 1, posY + range);
+			int maxZ = Math.min(Mth.ceil(area.maxZ) - 1, posZ + range);
+			if (minX <= maxX && minY <= maxY && minZ <= maxZ) {
+				SPAWN_BOUNDS.add(minX);
+				SPAWN_BOUNDS.add(minY);
+				SPAWN_BOUNDS.add(minZ);
+				SPAWN_BOUNDS.add(maxX);
+				SPAWN_BOUNDS.add(maxY);
+				SPAWN_BOUNDS.add(maxZ);
+				totalSpawnVolume += (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+				SPAWN_VOLUMES.add(totalSpawnVolume);
+			}
+		}
+	}
+
+	public static void clear() {
+		AREAS.clear();
+		SECTIONS.clear();
+		LARGE_AREAS.clear();
+		SPAWN_BOUNDS.clear();
+		SPAWN_VOLUMES.clear();
+		totalSpawnVolume = 0L;
+	}
+
+	public static boolean contains(double x, double y, double z) {
+		return countContaining(x, y, z, 1) > 0;
+	}
+
+	private static int countContaining(double x, double y, double z, int limit) {
+		int count = 0;
+		for (int i = 0; i < LARGE_AREAS.size() && count < limit; i++) {
+			if (AREAS.get(LARGE_AREAS.getInt(i)).contains(x, y, z)) count += 1;
+		}
+		IntArrayList sectionAreas = SECTIONS.get(
+			SectionPos.asLong(SectionPos.blockToSectionCoord(Mth.floor(x)), SectionPos.blockToSectionCoord(Mth.floor(y)), SectionPos.blockToSectionCoord(Mth.floor(z)))
+		);
+		if (sectionAreas != null) {
+			for (int i = 0; i < sectionAreas.size() && count < limit; i++) {
+				if (AREAS.get(sectionAreas.getInt(i)).contains(x, y, z)) count += 1;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Returns how many times {@link #findSpawnPos} should be called to spawn as many particles as the given number of attempts would across the whole range.
+	 */
+	public static int getSpawnAttempts(int attempts, @NotNull RandomSource random) {
+		if (totalSpawnVolume <= 0L) return 0;
+		double expectedAttempts = (double) attempts * totalSpawnVolume / spawnRangeVolume;
+		int spawnAttempts = (int) expectedAttempts;
+		if (random.nextDouble() < expectedAttempts - spawnAttempts) {
+			spawnAttempts += 1;
+		}
+		return spawnAttempts;
+	}
+
+	/**
+	 * Picks a random block position inside a disturbance near the camera.
+	 * <p>
+	 * Positions covered by several disturbances are only kept once per disturbance covering them, so overlapping disturbances are not sampled more often.
+	 *
+	 * @return whether a position was picked.
+	 */
+	public static boolean findSpawnPos(@NotNull RandomSource random, @NotNull BlockPos.MutableBlockPos blockPos) {
+		if (totalSpawnVolume <= 0L) return false;
+		long target = (long) (random.nextDouble() * totalSpawnVolume);
+		int index = 0;
+		int maxIndex = SPAWN_VOLUMES.size() - 1;
+		while (index < maxIndex) {
+			int middle = (index + maxIndex) >>> 1;
+			if (SPAWN_VOLUMES.getLong(middle) <= target) {
+				index = middle + 1;
+			} else {
+				maxIndex = middle;
+			}
+		}
+		int boundsIndex = index * 6;
+		int x = random.nextIntBetweenInclusive(SPAWN_BOUNDS.getInt(boundsIndex), SPAWN_BOUNDS.getInt(boundsIndex + 3));
+		int y = random.nextIntBetweenInclusive(SPAWN_BOUNDS.getInt(boundsIndex + 1), SPAWN_BOUNDS.getInt(boundsIndex + 4));
+		int z = random.nextIntBetweenInclusive(SPAWN_BOUNDS.getInt(boundsIndex + 2), SPAWN_BOUNDS.getInt(boundsIndex + 5));
+		int coveringAreas = countContaining(x, y, z, Integer.MAX_VALUE);
+		if (coveringAreas > 1 && random.nextInt(coveringAreas) != 0) return false;
+		blockPos.set(x, y, z);
+		return true;
+	}
+}
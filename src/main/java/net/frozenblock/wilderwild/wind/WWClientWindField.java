@@ -0,0 +1,174 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.api.Environment;
+import net.frozenblock.lib.wind.api.ClientWindManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LightLayer;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A coarse grid of wind samples around the camera, used by particles instead of sampling {@link ClientWindManager} themselves.
+ * <p>
+ * Grid points are only calculated the first time they are needed each tick, and particles interpolate between the eight surrounding points.
+ * The grid only holds undisturbed wind: particles inside a wind disturbance, or next to a grid point inside one, sample the wind directly.
+ * Wind is also scaled by the sky light where it is sampled, so particles only use the grid when every surrounding point has the same sky light as their own block.
+ */
+@Environment(EnvType.CLIENT)
+public final class WWClientWindField {
+	private static final int CELL_SIZE = 4;
+	private static final int HORIZONTAL_CELLS = 32;
+	private static final int VERTICAL_CELLS = 16;
+	private static final int SIZE_XZ = HORIZONTAL_CELLS + 1;
+	private static final int SIZE_Y = VERTICAL_CELLS + 1;
+	private static final double[] WIND = new double[SIZE_XZ * SIZE_Y * SIZE_XZ * 3];
+	private static final int[] STAMPS = new int[SIZE_XZ * SIZE_Y * SIZE_XZ];
+	private static final boolean[] DISTURBED = new boolean[SIZE_XZ * SIZE_Y * SIZE_XZ];
+	private static final int[] SKY_LIGHT = new int[SIZE_XZ * SIZE_Y * SIZE_XZ];
+	private static final BlockPos.MutableBlockPos MUTABLE_POS = new BlockPos.MutableBlockPos();
+	private static int stamp = 1;
+	private static Level cachedLevel;
+	private static int originX;
+	private static int originY;
+	private static int originZ;
+
+	public static double windX;
+	public static double windY;
+	public static double windZ;
+
+	private WWClientWindField() {
+		throw new UnsupportedOperationException("WWClientWindField contains only static declarations.");
+	}
+
+	/**
+	 * Invalidates every grid point and recenters the grid on the camera.
+	 * <p>
+	 * Called every client tick from {@link WWClientWindManager#clientTick()}.
+	 */
+	public static void tick(@NotNull Level level, @NotNull BlockPos cameraPos) {
+		stamp += 1;
+		cachedLevel = level;
+		originX = (Mth.floorDiv(cameraPos.getX(), CELL_SIZE) - (HORIZONTAL_CELLS / 2)) * CELL_SIZE;
+		originY = (Mth.floorDiv(cameraPos.getY(), CELL_SIZE) - (VERTICAL_CELLS / 2)) * CELL_SIZE;
+		originZ = (Mth.floorDiv(cameraPos.getZ(), CELL_SIZE) - (HORIZONTAL_CELLS / 2)) * CELL_SIZE;
+	}
+
+	/**
+	 * Samples the wind at the given position, storing the result in {@link #windX}, {@link #windY} and {@link #windZ}.
+	 * <p>
+	 * Approximates {@code ClientWindManager.getWindMovement(level, pos, scale, clamp, windDisturbanceClamp).scale(multiplier)},
+	 * interpolating the undisturbed wind from the grid, and calling it directly whenever a wind disturbance could affect the result.
+	 */
+	public static void sample(@NotNull Level level, double x, double y, double z, double scale, double clamp, double windDisturbanceClamp, double multiplier) {
+		double gridX = (x - 0.5D - originX) / CELL_SIZE;
+		double gridY = (y - 0.5D - originY) / CELL_SIZE;
+		double gridZ = (z - 0.5D - originZ) / CELL_SIZE;
+		int cellX = Mth.floor(gridX);
+		int cellY = Mth.floor(gridY);
+		int cellZ = Mth.floor(gridZ);
+
+		if (level != cachedLevel
+			|| cellX < 0 || cellX >= HORIZONTAL_CELLS
+			|| cellY < 0 || cellY >= VERTICAL_CELLS
+			|| cellZ < 0 || cellZ >= HORIZONTAL_CELLS
+			|| WWClientWindDisturbances.contains(x, y, z)
+		) {
+			sampleDirectly(level, x, y, z, scale, clamp, windDisturbanceClamp, multiplier);
+			return;
+		}
+
+		int i000 = getGridPoint(level, cellX, cellY, cellZ);
+		int i100 = getGridPoint(level, cellX + 1, cellY, cellZ);
+		int i010 = getGridPoint(level, cellX, cellY + 1, cellZ);
+		int i110 = getGridPoint(level, cellX + 1, cellY + 1, cellZ);
+		int i001 = getGridPoint(level, cellX, cellY, cellZ + 1);
+		int i101 = getGridPoint(level, cellX + 1, cellY, cellZ + 1);
+		int i011 = getGridPoint(level, cellX, cellY + 1, cellZ + 1);
+		int i111 = getGridPoint(level, cellX + 1, cellY + 1, cellZ + 1);
+		int skyLight = level.getBrightness(LightLayer.SKY, MUTABLE_POS.set(x, y, z));
+		if (isDisturbed(i000) || isDisturbed(i100) || isDisturbed(i010) || isDisturbed(i110)
+			|| isDisturbed(i001) || isDisturbed(i101) || isDisturbed(i011) || isDisturbed(i111)
+			|| !hasSkyLight(i000, skyLight) || !hasSkyLight(i100, skyLight) || !hasSkyLight(i010, skyLight) || !hasSkyLight(i110, skyLight)
+			|| !hasSkyLight(i001, skyLight) || !hasSkyLight(i101, skyLight) || !hasSkyLight(i011, skyLight) || !hasSkyLight(i111, skyLight)
+		) {
+			sampleDirectly(level, x, y, z, scale, clamp, windDisturbanceClamp, multiplier);
+			return;
+		}
+
+		double deltaX = gridX - cellX;
+		double deltaY = gridY - cellY;
+		double deltaZ = gridZ - cellZ;
+		windX = Mth.clamp(interpolate(deltaX, deltaY, deltaZ, i000, i100, i010, i110, i001, i101, i011, i111, 0) * scale, -clamp, clamp) * multiplier;
+		windY = Mth.clamp(interpolate(deltaX, deltaY, deltaZ, i000, i100, i010, i110, i001, i101, i011, i111, 1) * scale, -clamp, clamp) * multiplier;
+		windZ = Mth.clamp(interpolate(deltaX, deltaY, deltaZ, i000, i100, i010, i110, i001, i101, i011, i111, 2) * scale, -clamp, clamp) * multiplier;
+	}
+
+	private static void sampleDirectly(@NotNull Level level, double x, double y, double z, double scale, double clamp, double windDisturbanceClamp, double multiplier) {
+		Vec3 wind = ClientWindManager.getWindMovement(level, new Vec3(x, y, z), scale, clamp, windDisturbanceClamp);
+		windX = wind.x * multiplier;
+		windY = wind.y * multiplier;
+		windZ = wind.z * multiplier;
+	}
+
+	private static boolean isDisturbed(int windIndex) {
+		return DISTURBED[windIndex / 3];
+	}
+
+	private static boolean hasSkyLight(int windIndex, int skyLight) {
+		return SKY_LIGHT[windIndex / 3] == skyLight;
+	}
+
+	private static double interpolate(
+		double deltaX, double deltaY, double deltaZ,
+		int i000, int i100, int i010, int i110, int i001, int i101, int i011, int i111,
+		int component
+	) {
+		return Mth.lerp3(
+			deltaX, deltaY, deltaZ,
+			WIND[i000 + component], WIND[i100 + component], WIND[i010 + component], WIND[i110 + component],
+			WIND[i001 + component], WIND[i101 + component], WIND[i011 + component], WIND[i111 + component]
+		);
+	}
+
+	private static int getGridPoint(@NotNull Level level, int gridX, int gridY, int gridZ) {
+		int index = (((gridX * SIZE_Y) + gridY) * SIZE_XZ) + gridZ;
+		int windIndex = index * 3;
+		if (STAMPS[index] != stamp) {
+			double x = originX + (gridX * CELL_SIZE) + 0.5D;
+			double y = originY + (gridY * CELL_SIZE) + 0.5D;
+			double z = originZ + (gridZ * CELL_SIZE) + 0.5D;
+			// Disturbance wind only applies inside a disturbance's area, so the wind at a grid point outside of every area is undisturbed.
+			DISTURBED[index] = WWClientWindDisturbances.contains(x, y, z);
+			SKY_LIGHT[index] = level.getBrightness(LightLayer.SKY, MUTABLE_POS.set(x, y, z));
+			if (!DISTURBED[index]) {
+				Vec3 wind = ClientWindManager.getWindMovement(level, new Vec3(x, y, z), 1D, Double.MAX_VALUE, Double.MAX_VALUE);
+				WIND[windIndex] = wind.x;
+				WIND[windIndex + 1] = wind.y;
+				WIND[windIndex + 2] = wind.z;
+			}
+			STAMPS[index] = stamp;
+		}
+		return windIndex;
+	}
+}
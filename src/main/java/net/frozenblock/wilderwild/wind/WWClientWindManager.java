@@ -69,8 +69,12 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 
 		Minecraft minecraft = Minecraft.getInstance();
 		ClientLevel level = minecraft.level;
-		if (level != null) {
+		if (level == null) {
+			WWClientWindDisturbances.clear();
+		} else {
 			BlockPos pos = minecraft.gameRenderer.getMainCamera().getBlockPosition();
+			WWClientWindField.tick(level, pos);
+			WWClientWindDisturbances.tick(pos.getX(), pos.getY(), pos.getZ(), 48);
 			this.animateTick(level, pos.getX(), pos.getY(), pos.getZ());
 		}
 	}
@@ -84,8 +88,9 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 			}
 		}
 		if (WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLES) {
-			for (int i = 0; i < WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLE_SPAWN_ATTEMPTS; ++i) {
-				this.spawnDisturbanceWindParticles(level, posX, posY, posZ, 48, randomSource, mutableBlockPos);
+			int spawnAttempts = WWClientWindDisturbances.getSpawnAttempts(WWAmbienceAndMiscConfig.WIND_DISTURBANCE_PARTICLE_SPAWN_ATTEMPTS, randomSource);
+			for (int i = 0; i < spawnAttempts; ++i) {
+				this.spawnDisturbanceWindParticles(level, randomSource, mutableBlockPos);
 			}
 		}
 	}
@@ -130,16 +135,13 @@ public final class WWClientWindManager implements ClientWindManagerExtension {
 		}
 	}
 
-	public void spawnDisturbanceWindParticles(
-		@NotNull ClientLevel level, int posX, int posY, int posZ, int range, @NotNull RandomSource random, @NotNull BlockPos.MutableBlockPos blockPos
-	) {
-		int i = posX + random.nextIntBetweenInclusive(-range, range);
-		int j = posY + random.nextIntBetweenInclusive(-range, range);
-		int k = posZ + random.nextIntBetweenInclusive(-range, range);
-		blockPos.set(i, j, k);
-		if (ClientWindManager.getWindDisturbances().stream().noneMatch(windDisturbance -> windDisturbance.affectedArea.contains(i, j, k))) {
+	public void spawnDisturbanceWindParticles(@NotNull ClientLevel level, @NotNull RandomSource random, @NotNull BlockPos.MutableBlockPos blockPos) {
+		if (!WWClientWindDisturbances.findSpawnPos(random, blockPos)) {
 			return;
 		}
+		int i = blockPos.getX();
+		int j = blockPos.getY();
+		int k = blockPos.getZ();
 
 		BlockState blockState = level.getBlockState(blockPos);
 
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2024 FrozenBlock
+ * This file is part of Wilder Wild.
+ *
+ * This program is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 3 of the License, or (at your option) any later version.
+ *
+ * This program is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program; if not, see <https://www.gnu.org/licenses/>.
+ */
+
+package net.frozenblock.wilderwild.wind;
+
+import it.unimi.dsi.fastutil.doubles.DoubleArrayList;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import java.util.Map;
+import java.util.WeakHashMap;
+import net.frozenblock.lib.wind.api.WindManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Caches {@link WindManager#getWindMovement} results per block for the current server tick.
+ * <p>
+ * Entities in the same block with the same parameters share one sample, so large Firefly swarms only sample the wind once per occupied block.
+ * Results are written to {@link #windX}, {@link #windY} and {@link #windZ} to avoid allocating.
+ */
+public class WWWindCache {
+	private static final Map<ServerLevel, WWWindCache> CACHES = new WeakHashMap<>();
+	private static final double NO_WIND_DISTURBANCE_CLAMP = Double.NaN;
+	private final ObjectArrayList<Entry> entries = new ObjectArrayList<>();
+	private int lastTick = -1;
+	private int samples;
+	private int lookups;
+
+	public double windX;
+	public double windY;
+	public double windZ;
+
+	@NotNull
+	public static WWWindCache get(@NotNull ServerLevel level) {
+		WWWindCache cache = CACHES.computeIfAbsent(level, serverLevel -> new WWWindCache());
+		cache.clearIfOutdated(level, level.getServer().getTickCount());
+		return cache;
+	}
+
+	public static void removeLevel(@NotNull ServerLevel level) {
+		CACHES.remove(level);
+	}
+
+	public static void clearCaches() {
+		CACHES.clear();
+	}
+
+	private void clearIfOutdated(@NotNull ServerLevel level, int tick) {
+		if (tick != this.lastTick) {
+			if (this.lookups > 0) {
+				ProfilerFiller profiler = level.getProfiler();
+				profiler.incrementCounter("windCacheLookups", this.lookups);
+				profiler.incrementCounter("windCacheSamples", this.samples);
+			}
+			this.lastTick = tick;
+			this.samples = 0;
+			this.lookups = 0;
+			for (Entry entry : this.entries) {
+				entry.clear();
+			}
+		}
+	}
+
+	/**
+	 * Equivalent to {@code WindManager.getWindManager(level).getWindMovement(pos, scale, clamp)}, sampled at the center of the block containing the position.
+	 */
+	public void sample(@NotNull ServerLevel level, double x, double y, double z, double scale, double clamp) {
+		this.sample(level, x, y, z, scale, clamp, NO_WIND_DISTURBANCE_CLAMP);
+	}
+
+	/**
+	 * Equivalent to {@code WindManager.getWindManager(level).getWindMovement(pos, scale, clamp, windDisturbanceClamp)}, sampled at the center of the block containing the position.
+	 */
+	public void sample(@NotNull ServerLevel level, double x, double y, double z, double scale, double clamp, double windDisturbanceClamp) {
+		Entry entry = this.getEntry(scale, clamp, windDisturbanceClamp);
+		int blockX = Mth.floor(x);
+		int blockY = Mth.floor(y);
+		int blockZ = Mth.floor(z);
+		long key = BlockPos.asLong(blockX, blockY, blockZ);
+		this.lookups += 1;
+
+		int index = entry.indices.get(key);
+		if (index == -1) {
+			Vec3 pos = new Vec3(blockX + 0.5D, blockY + 0.5D, blockZ + 0.5D);
+			WindManager windManager = WindManager.getWindManager(level);
+			Vec3 wind = Double.isNaN(windDisturbanceClamp)
+				? windManager.getWindMovement(pos, scale, clamp)
+				: windManager.getWindMovement(pos, scale, clamp, windDisturbanceClamp);
+			index = entry.wind.size();
+			entry.wind.add(wind.x);
+			entry.wind.add(wind.y);
+			entry.wind.add(wind.z);
+			entry.indices.put(key, index);
+			this.samples += 1;
+		}
+
+		this.windX = entry.wind.getDouble(index);
+		this.windY = entry.wind.getDouble(index + 1);
+		this.windZ = entry.wind.getDouble(index + 2);
+	}
+
+	@NotNull
+	private Entry getEntry(double scale, double clamp, double windDisturbanceClamp) {
+		for (Entry entry : this.entries) {
+			if (entry.matches(scale, clamp, windDisturbanceClamp)) return entry;
+		}
+		Entry entry = new Entry(scale, clamp, windDisturbanceClamp);
+		this.entries.add(entry);
+		return entry;
+	}
+
+	/**
+	 * @return how many times the wind was actually sampled this tick.
+	 */
+	public int getSamples() {
+		return this.samples;
+	}
+
+	/**
+	 * @return how many times the cache was queried this tick.
+	 */
+	public int getLookups() {
+		return this.lookups;
+	}
+
+	private static class Entry {
+		private final double scale;
+		private final double clamp;
+		private final double windDisturbanceClamp;
+		private final Long2IntOpenHashMap indices = new Long2IntOpenHashMap();
+		private final DoubleArrayList wind = new DoubleArrayList();
+
+		private Entry(double scale, double clamp, double windDisturbanceClamp) {
+			this.scale = scale;
+			this.clamp = clamp;
+			this.windDisturbanceClamp = windDisturbanceClamp;
+			this.indices.defaultReturnValue(-1);
+		}
+
+		private boolean matches(double scale, double clamp, double windDisturbanceClamp) {
+			return this.scale == scale
+				&& this.clamp == clamp
+				&& Double.compare(this.windDisturbanceClamp, windDisturbanceClamp) == 0;
+		}
+
+		private void clear() {
+			this.indices.clear();
+			this.wind.clear();
+		}
+	}
+}
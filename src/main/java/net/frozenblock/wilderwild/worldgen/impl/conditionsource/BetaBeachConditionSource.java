@@ -36,6 +36,9 @@ public final class BetaBeachConditionSource implements SurfaceRules.ConditionSou
 		)
 	);
 
+	private static final SurfaceRules.Condition ALWAYS_TRUE = () -> true;
+	private static final SurfaceRules.Condition ALWAYS_FALSE = () -> false;
+
 	public static volatile boolean GENERATE = false;
 
 	public int useless;
@@ -62,17 +65,7 @@ public final class BetaBeachConditionSource implements SurfaceRules.ConditionSou
 	@Override
 	@NotNull
 	public SurfaceRules.Condition apply(@NotNull SurfaceRules.Context context) {
-		class BetaBeachCondition extends SurfaceRules.LazyYCondition {
-			BetaBeachCondition(@NotNull SurfaceRules.Context context) {
-				super(context);
-			}
-
-			protected boolean compute() {
-				return GENERATE;
-			}
-		}
-
-		return new BetaBeachCondition(context);
+		return GENERATE ? ALWAYS_TRUE : ALWAYS_FALSE;
 	}
 
 	@Override
@@ -36,6 +36,9 @@ public final class SnowUnderMountainConditionSource implements SurfaceRules.Cond
 		)
 	);
 
+	private static final SurfaceRules.Condition ALWAYS_TRUE = () -> true;
+	private static final SurfaceRules.Condition ALWAYS_FALSE = () -> false;
+
 	public static volatile boolean GENERATE = false;
 
 	public int useless;
@@ -59,20 +62,13 @@ public final class SnowUnderMountainConditionSource implements SurfaceRules.Cond
 		return CODEC;
 	}
 
+	/**
+	 * Reads {@link #GENERATE} once while the surface rule is being built, so every evaluation for the chunk shares one immutable result.
+	 */
 	@Override
 	@NotNull
 	public SurfaceRules.Condition apply(@NotNull SurfaceRules.Context context) {
-		class SnowUnderMountainCondition extends SurfaceRules.LazyYCondition {
-			SnowUnderMountainCondition(@NotNull SurfaceRules.Context context) {
-				super(context);
-			}
-
-			protected boolean compute() {
-				return GENERATE;
-			}
-		}
-
-		return new SnowUnderMountainCondition(context);
+		return GENERATE ? ALWAYS_TRUE : ALWAYS_FALSE;
 	}
 
 	@Override
@@ -29,6 +29,7 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.minecraft.world.level.levelgen.feature.Feature;
 import net.minecraft.world.level.levelgen.feature.FeaturePlaceContext;
@@ -36,6 +37,10 @@ import net.minecraft.world.level.levelgen.feature.configurations.NoneFeatureConf
 import org.jetbrains.annotations.NotNull;
 
 public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
+	/**
+	 * The height above which {@link Biome#getHeightAdjustedTemperature} starts lowering a biome's temperature.
+	 */
+	private static final int TEMPERATURE_FALLOFF_Y = 80;
 
 	public SnowBlanketFeature(@NotNull Codec<NoneFeatureConfiguration> codec) {
 		super(codec);
@@ -44,7 +49,15 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 	private static boolean placeSnowAtPos(@NotNull WorldGenLevel level, @NotNull BlockPos.MutableBlockPos motionBlockingPos, @NotNull BlockPos.MutableBlockPos belowLeavesPos, @NotNull Holder<Biome> biomeHolder) {
 		boolean returnValue = false;
 		int lowestY = belowLeavesPos.getY() - 1;
+		Biome biome = biomeHolder.value();
 		while (motionBlockingPos.getY() > lowestY) {
+			// At or below the falloff height a biome's temperature is the same at every height, so nothing further down can be snowed on.
+			// Above it, temperature only rises further down until the falloff height, where it can drop back to the biome's base temperature.
+			if (biome.warmEnoughToRain(motionBlockingPos)) {
+				if (motionBlockingPos.getY() <= TEMPERATURE_FALLOFF_Y) break;
+				motionBlockingPos.setY(TEMPERATURE_FALLOFF_Y);
+				continue;
+			}
 			if (placeSnowLayer(level, motionBlockingPos, biomeHolder)) {
 				returnValue = true;
 			}
@@ -97,12 +110,31 @@ public class SnowBlanketFeature extends Feature<NoneFeatureConfiguration> {
 		int posX = pos.getX();
 		int posZ = pos.getZ();
 		BlockState iceState = Blocks.ICE.defaultBlockState();
+
+		// Placing snow or ice only changes the heightmaps of its own column, so every column's heights can be read up front.
+		int[] motionBlockingHeights = new int[256];
+		int[] noLeavesHeights = new int[256];
+		ChunkAccess chunk = (posX & 15) == 0 && (posZ & 15) == 0 ? level.getChunk(pos) : null;
+		for (int i = 0; i < 16; i++) {
+			for (int j = 0; j < 16; j++) {
+				int index = (i << 4) | j;
+				if (chunk != null) {
+					motionBlockingHeights[index] = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING, i, j) + 1;
+					noLeavesHeights[index] = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, i, j) + 1;
+				} else {
+					motionBlockingHeights[index] = level.getHeight(Heightmap.Types.MOTION_BLOCKING, posX + i, posZ + j);
+					noLeavesHeights[index] = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, posX + i, posZ + j);
+				}
+			}
+		}
+
 		for (int i = 0; i < 16; i++) {
 			int x = posX + i;
 			for (int j = 0; j < 16; j++) {
 				int z = posZ + j;
-				mutablePos.set(x, level.getHeight(Heightmap.Types.MOTION_BLOCKING, x, z) - 1, z);
-				mutablePlacementPos.set(x, level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z), z);
+				int index = (i << 4) | j;
+				mutablePos.set(x, motionBlockingHeights[index] - 1, z);
+				mutablePlacementPos.set(x, noLeavesHeights[index], z);
 				if (!mutablePos.equals(mutablePlacementPos) && mutablePos.getY() > mutablePlacementPos.getY()) {
 					Holder<Biome> biomeHolder = level.getBiome(mutablePos);
 					Holder<Biome> lowerBiomeHolder = level.getBiome(mutablePlacementPos);